@@ -8,6 +8,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import java.util.List;
 import java.util.Optional;
 
 @SpringBootApplication
@@ -21,12 +22,14 @@ public class BudgetBlitzApiApplication {
 	public CommandLineRunner commandLineRunner(final RoleRepository roleRepository) {
 		return runner -> {
 
-			final Optional<Role> userRole = roleRepository.findByName("ROLE_USER");
-			if (userRole.isEmpty()) {
-				roleRepository.save(Role.builder()
-						.name("ROLE_USER")
-						.createdBy(0)
-						.build());
+			for (final String roleName : List.of("ROLE_USER", "ROLE_ADMIN")) {
+				final Optional<Role> role = roleRepository.findByName(roleName);
+				if (role.isEmpty()) {
+					roleRepository.save(Role.builder()
+							.name(roleName)
+							.createdBy(0)
+							.build());
+				}
 			}
 		};
 	}
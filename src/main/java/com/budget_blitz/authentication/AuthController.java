@@ -8,7 +8,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -51,7 +50,7 @@ public class AuthController {
     public ResponseEntity<Void> register(
             @RequestBody
             @Valid
-            final RegisterRequest request) throws MessagingException {
+            final RegisterRequest request) {
         this.authService.register(request);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
@@ -154,7 +153,7 @@ public class AuthController {
     public ResponseEntity<Void> activateAccount(
             @RequestBody
             @Valid
-            final ActivateAccountRequest request) throws MessagingException {
+            final ActivateAccountRequest request) {
         this.authService.activateAccount(request);
         return ResponseEntity.ok().build();
     }
@@ -177,7 +176,7 @@ public class AuthController {
     public ResponseEntity<Void> forgotPassword(
             @RequestBody
             @Valid
-            final ForgotPasswordRequest request) throws MessagingException {
+            final ForgotPasswordRequest request) {
         this.forgotPasswordService.forgotPassword(request);
         return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
@@ -199,7 +198,7 @@ public class AuthController {
     public ResponseEntity<Void> verifyResetCode(
             @RequestBody
             @Valid
-            final ResetCodeRequest request) throws MessagingException {
+            final ResetCodeRequest request) {
         this.forgotPasswordService.verifyResetCode(request);
         return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
@@ -3,15 +3,16 @@ package com.budget_blitz.authentication.impl;
 import com.budget_blitz.authentication.AuthService;
 import com.budget_blitz.authentication.request.*;
 import com.budget_blitz.authentication.response.AuthResponse;
-import com.budget_blitz.email.EmailService;
+import com.budget_blitz.email.EmailOutboxService;
 import com.budget_blitz.email.EmailTemplateName;
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.role.Role;
 import com.budget_blitz.role.RoleRepository;
 import com.budget_blitz.security.JwtService;
+import com.budget_blitz.security.TokenDigestService;
 import com.budget_blitz.users.*;
-import jakarta.mail.MessagingException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
@@ -34,11 +36,12 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final UserMapper userMapper;
     private final RoleRepository roleRepository;
     private final TokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final TokenDigestService tokenDigestService;
 
     @Override
     public AuthResponse login(final LoginRequest request) {
@@ -75,7 +78,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional
-    public void register(final RegisterRequest request) throws MessagingException {
+    public void register(final RegisterRequest request) {
        checkEmail(request.getEmail());
 
        final Role role = this.roleRepository.findByName("ROLE_USER")
@@ -90,11 +93,9 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void activateAccount(final ActivateAccountRequest request) throws MessagingException {
-        final Token savedToken = this.tokenRepository.findAll()
-                .stream()
-                .filter(token -> this.passwordEncoder.matches(request.getCode(), token.getToken()))
-                .findFirst()
+    @Transactional(noRollbackFor = BusinessException.class)
+    public void activateAccount(final ActivateAccountRequest request) {
+        final Token savedToken = findTokenByCode(request.getCode())
                 .orElseThrow(() -> new EntityNotFoundException("Invalid token"));
 
         if (savedToken.getValidatedAt() != null) {
@@ -115,20 +116,20 @@ public class AuthServiceImpl implements AuthService {
         this.userRepository.save(user);
     }
 
-    private void sendValidationEmail(final User user) throws MessagingException {
+    private void sendValidationEmail(final User user) {
         final String newToken = generateAndSaveToken(user);
-        this.emailService.sendEmail(
+        this.emailOutboxService.enqueue(
                 user.getEmail(),
                 user.fullName(),
                 EmailTemplateName.ACTIVATE_ACCOUNT,
-                newToken,
-                "Activate Your BudgetBlitz Account – Use Your Verification Code");
+                newToken);
     }
 
     public String generateAndSaveToken(final User user) {
          final String generatedCode = generateActivationCode(6);
          final Token token = Token.builder()
                 .token(this.passwordEncoder.encode(generatedCode))
+                .codeDigest(this.tokenDigestService.digest(generatedCode))
                 .createdAt(LocalDateTime.now())
                 .expiredAt(LocalDateTime.now().plusMinutes(15))
                 .user(user)
@@ -137,6 +138,13 @@ public class AuthServiceImpl implements AuthService {
         return generatedCode;
     }
 
+    public Optional<Token> findTokenByCode(final String code) {
+        return this.tokenRepository.findTop5ByCodeDigestOrderByCreatedAtDesc(this.tokenDigestService.digest(code))
+                .stream()
+                .filter(token -> this.passwordEncoder.matches(code, token.getToken()))
+                .findFirst();
+    }
+
     private String generateActivationCode(final int length) {
         final String sourceCode = "0123456789";
         final StringBuilder stringBuilder = new StringBuilder();
@@ -5,16 +5,17 @@ import com.budget_blitz.authentication.request.ForgotPasswordRequest;
 import com.budget_blitz.authentication.request.ResetCodeRequest;
 import com.budget_blitz.authentication.request.ResetPasswordRequest;
 import com.budget_blitz.authentication.response.AuthResponse;
-import com.budget_blitz.email.EmailService;
+import com.budget_blitz.email.EmailOutboxService;
 import com.budget_blitz.email.EmailTemplateName;
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.security.JwtService;
+import com.budget_blitz.security.PrincipalCache;
 import com.budget_blitz.users.Token;
 import com.budget_blitz.users.TokenRepository;
 import com.budget_blitz.users.User;
 import com.budget_blitz.users.UserRepository;
-import jakarta.mail.MessagingException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ForgotPasswordServiceImpl implements ForgotPasswordService {
@@ -33,13 +35,14 @@ public class ForgotPasswordServiceImpl implements ForgotPasswordService {
     private final TokenRepository tokenRepository;
     private final AuthServiceImpl authServiceImpl;
 
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
-    public void forgotPassword(final ForgotPasswordRequest request) throws MessagingException {
+    public void forgotPassword(final ForgotPasswordRequest request) {
         final User user = this.userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_EMAIL_NOT_FOUND));
 
@@ -47,13 +50,10 @@ public class ForgotPasswordServiceImpl implements ForgotPasswordService {
     }
 
     @Override
-    @Transactional
-    public void verifyResetCode(final ResetCodeRequest request) throws MessagingException {
+    @Transactional(noRollbackFor = BusinessException.class)
+    public void verifyResetCode(final ResetCodeRequest request) {
 
-        final Token savedToken = this.tokenRepository.findAll()
-                .stream()
-                .filter(token -> this.passwordEncoder.matches(request.getResetCode(), token.getToken()))
-                .findFirst()
+        final Token savedToken = this.authServiceImpl.findTokenByCode(request.getResetCode())
                 .orElseThrow(() -> new EntityNotFoundException("Invalid reset code"));
 
         if (savedToken.getValidatedAt() != null) {
@@ -80,6 +80,7 @@ public class ForgotPasswordServiceImpl implements ForgotPasswordService {
         user.setPassword(encodedPassword);
 
         this.userRepository.save(user);
+        this.principalCache.evict(user.getEmail());
         log.info("User reset his password successfully with email: {}", user.getEmail());
 
         final String accessToken = this.jwtService.generateAccessToken(user.getEmail());
@@ -94,11 +95,10 @@ public class ForgotPasswordServiceImpl implements ForgotPasswordService {
     }
 
 
-    private void sendResetPasswordEmail(final User user) throws MessagingException {
+    private void sendResetPasswordEmail(final User user) {
         final String resetCode = this.authServiceImpl.generateAndSaveToken(user);
 
         log.info("Reset code sent successfully with email: {}", user.getEmail());
-        this.emailService.sendEmail(user.getEmail(), user.fullName(), EmailTemplateName.PASSWORD_RESET,
-                resetCode,user.fullName() + ", here's your PIN " + resetCode + " (valid 15 minutes)");
+        this.emailOutboxService.enqueue(user.getEmail(), user.fullName(), EmailTemplateName.PASSWORD_RESET, resetCode);
     }
 }
\ No newline at end of file
@@ -45,8 +45,11 @@ public class CategoryController {
             @Parameter(description = "Page size", example = "10")
             @RequestParam(name = "size", defaultValue = "10", required = false) int size,
 
+            @Parameter(description = "Return a slice without total counts", example = "false")
+            @RequestParam(name = "slice", defaultValue = "false", required = false) boolean slice,
+
             @Parameter(hidden = true) final Authentication principal) {
-        return ResponseEntity.ok(this.categoryService.findAll(page, size, getUserId(principal)));
+        return ResponseEntity.ok(this.categoryService.findAll(page, size, slice, getUserId(principal)));
     }
 
     @Operation(
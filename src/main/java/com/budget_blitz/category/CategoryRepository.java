@@ -2,10 +2,13 @@ package com.budget_blitz.category;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
@@ -25,6 +28,13 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
             """)
     Page<Category> findAllCategoriesByUserId(Pageable pageable, @Param("userId") Integer userId);
 
+    @Query("""
+            SELECT c
+            FROM Category c
+            WHERE c.user.id =:userId
+            """)
+    Slice<Category> findCategorySliceByUserId(Pageable pageable, @Param("userId") Integer userId);
+
     @Query("""
             SELECT c
             FROM Category c
@@ -32,4 +42,20 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
             AND c.user.id =:userId
             """)
     Optional<Category> findByCategoryIdAndUserId(@Param("categoryId") Integer categoryId, @Param("userId") Integer id);
+
+    @Query("""
+            SELECT c
+            FROM Category c
+            WHERE c.user.id =:userId
+            AND LOWER(c.name) = LOWER(:name)
+            """)
+    List<Category> findByNameAndUserIdIgnoreCase(@Param("name") String name, @Param("userId") Integer userId);
+
+    @Query("""
+            SELECT c
+            FROM Category c
+            WHERE c.id IN :categoryIds
+            AND c.user.id =:userId
+            """)
+    List<Category> findAllByCategoryIdsAndUserId(@Param("categoryIds") Collection<Integer> categoryIds, @Param("userId") Integer userId);
 }
@@ -7,6 +7,6 @@ import com.budget_blitz.common.PageResponse;
 public interface CategoryService {
 
     CategoryResponse addCategory(final CategoryRequest request, final Integer userId);
-    PageResponse<CategoryResponse> findAll(final int page, final int size, final Integer userId);
+    PageResponse<CategoryResponse> findAll(final int page, final int size, final boolean slice, final Integer userId);
     void deleteCategoryById(final Integer categoryId, final Integer userId);
 }
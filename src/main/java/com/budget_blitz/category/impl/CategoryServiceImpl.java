@@ -11,12 +11,13 @@ import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.users.User;
 import com.budget_blitz.users.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class CategoryServiceImpl implements CategoryService {
@@ -34,20 +36,14 @@ public class CategoryServiceImpl implements CategoryService {
     private final UserRepository userRepository;
 
     @Override
-    public PageResponse<CategoryResponse> findAll(final int page, final int size, final Integer userId) {
+    public PageResponse<CategoryResponse> findAll(final int page, final int size, final boolean slice, final Integer userId) {
         final Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        final Page<Category> categories = this.categoryRepository.findAllCategoriesByUserId(pageable, userId);
+        final Slice<Category> categories = slice
+                ? this.categoryRepository.findCategorySliceByUserId(pageable, userId)
+                : this.categoryRepository.findAllCategoriesByUserId(pageable, userId);
         final List<CategoryResponse> responses = categories.stream().map(categoryMapper::toCategoryResponse).toList();
 
-        return new PageResponse<>(
-                responses,
-                categories.getNumber(),
-                categories.getSize(),
-                categories.getTotalElements(),
-                categories.getTotalPages(),
-                categories.isFirst(),
-                categories.isLast()
-        );
+        return PageResponse.of(categories, responses);
     }
 
     @Override
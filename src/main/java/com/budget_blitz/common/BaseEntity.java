@@ -23,8 +23,20 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class BaseEntity {
 
+    public static final String ID_GENERATOR = "entity_ids";
+    public static final String ID_GENERATOR_TABLE = "id_generators";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = ID_GENERATOR)
+    @TableGenerator(
+            name = ID_GENERATOR,
+            table = ID_GENERATOR_TABLE,
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = ID_GENERATOR,
+            allocationSize = ID_ALLOCATION_SIZE
+    )
     @Column(name = "id")
     private Integer id;
 
@@ -0,0 +1,21 @@
+package com.budget_blitz.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk create request")
+public class BatchCreateResponse<T> {
+
+    @Schema(description = "Records created by this request")
+    private List<T> created;
+
+    @Schema(description = "Number of entries skipped because an identical record already exists", example = "0")
+    private int skippedDuplicates;
+}
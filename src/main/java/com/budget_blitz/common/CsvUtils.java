@@ -0,0 +1,78 @@
+package com.budget_blitz.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CsvUtils {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char FORMULA_GUARD = '\'';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private CsvUtils() {
+    }
+
+    public static String escape(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String text = value instanceof CharSequence && startsWithFormula(value.toString())
+                ? FORMULA_GUARD + value.toString()
+                : value.toString();
+        if (text.indexOf(SEPARATOR) < 0 && text.indexOf(QUOTE) < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return QUOTE + text.replace("\"", "\"\"") + QUOTE;
+    }
+
+    public static String stripFormulaGuard(final String field) {
+        if (field.length() > 1 && field.charAt(0) == FORMULA_GUARD && startsWithFormula(field.substring(1))) {
+            return field.substring(1);
+        }
+        return field;
+    }
+
+    public static boolean hasOpenQuote(final CharSequence record) {
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == QUOTE) {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    public static List<String> parseLine(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static boolean startsWithFormula(final String text) {
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+    }
+}
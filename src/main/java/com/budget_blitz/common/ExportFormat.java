@@ -0,0 +1,17 @@
+package com.budget_blitz.common;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,14 @@
+package com.budget_blitz.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.export")
+@Component
+@Getter
+@Setter
+public class ExportProperties {
+    private int chunkSize = 1000;
+}
@@ -0,0 +1,48 @@
+package com.budget_blitz.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ExportWriter<T> {
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+    private final Function<T, List<Object>> columns;
+
+    public ExportWriter(final ExportFormat format, final OutputStream outputStream, final ObjectMapper objectMapper,
+                        final List<String> header, final Function<T, List<Object>> columns) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.columns = columns;
+
+        if (format == ExportFormat.CSV) {
+            writeLine(String.join(",", header));
+        }
+    }
+
+    public void write(final T row) throws IOException {
+        if (this.format == ExportFormat.CSV) {
+            writeLine(this.columns.apply(row).stream()
+                    .map(CsvUtils::escape)
+                    .collect(Collectors.joining(",")));
+        } else {
+            writeLine(this.objectMapper.writeValueAsString(row));
+        }
+    }
+
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    private void writeLine(final String line) throws IOException {
+        this.writer.write(line);
+        this.writer.write('\n');
+    }
+}
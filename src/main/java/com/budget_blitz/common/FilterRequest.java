@@ -1,9 +1,14 @@
 package com.budget_blitz.common;
 
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.MappedSuperclass;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,6 +21,9 @@ import java.time.LocalDate;
 @MappedSuperclass
 public class FilterRequest {
 
+    public static final String RELEVANCE = "relevance";
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdDate");
+
     @Schema(
             description = "Page number for pagination (0-based index)",
             example = "0",
@@ -29,7 +37,7 @@ public class FilterRequest {
     )
     private int size = 10;
     @Schema(
-            description = "Sorting criteria in the format: field,order (e.g., createdDate,DESC)",
+            description = "Sorting criteria in the format: field,order (e.g., createdDate,DESC). Use relevance,DESC to rank keyword matches. Scrolling accepts createdDate, date, amount or id only",
             example = "createdDate,ASC",
             defaultValue = "createdDate,DESC"
     )
@@ -59,4 +67,39 @@ public class FilterRequest {
             example = "Maintenance"
     )
     private String keyword;
+    @Schema(
+            description = "Opaque continuation token returned by the previous scroll response",
+            example = "eyJjcmVhdGVkRGF0ZSI6..."
+    )
+    private String cursor;
+    @Schema(
+            description = "Return a slice (content, number, hasNext) without total counts, skipping the COUNT query",
+            example = "false",
+            defaultValue = "false"
+    )
+    private boolean slice;
+
+    public boolean isRelevanceSort() {
+        return this.sort.split(",")[0].equals(RELEVANCE);
+    }
+
+    public Sort toSort(final boolean relevanceSupported) {
+        if (isRelevanceSort()) {
+            return relevanceSupported ? Sort.unsorted() : DEFAULT_SORT;
+        }
+        final String[] sortParam = this.sort.split(",");
+        return Sort.by(Sort.Direction.fromString(sortParam[1]), sortParam[0]);
+    }
+
+    public Sort toScrollSort() {
+        final Sort sort = isRelevanceSort() ? Sort.unsorted() : toSort(false);
+        if (!ScrollCursor.supports(sort)) {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_SCROLL_SORT);
+        }
+        return sort;
+    }
+
+    public Pageable toPageable(final boolean relevanceSupported) {
+        return PageRequest.of(this.page, this.size, toSort(relevanceSupported));
+    }
 }
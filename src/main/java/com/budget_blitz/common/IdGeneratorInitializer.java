@@ -0,0 +1,60 @@
+package com.budget_blitz.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorInitializer {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void init() {
+        this.jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + BaseEntity.ID_GENERATOR_TABLE
+                + " (sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, next_val BIGINT)");
+
+        long maxId = 0;
+        for (final String table : findBaseEntityTables()) {
+            final Long tableMax = this.jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            maxId = Math.max(maxId, tableMax != null ? tableMax : 0);
+        }
+
+        final long seed = maxId + BaseEntity.ID_ALLOCATION_SIZE + 1;
+        final int updated = this.jdbcTemplate.update("UPDATE " + BaseEntity.ID_GENERATOR_TABLE
+                + " SET next_val = ? WHERE sequence_name = ? AND next_val < ?", seed, BaseEntity.ID_GENERATOR, seed);
+        final Integer rows = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + BaseEntity.ID_GENERATOR_TABLE
+                + " WHERE sequence_name = ?", Integer.class, BaseEntity.ID_GENERATOR);
+        if (rows == null || rows == 0) {
+            this.jdbcTemplate.update("INSERT INTO " + BaseEntity.ID_GENERATOR_TABLE
+                    + " (sequence_name, next_val) VALUES (?, ?)", BaseEntity.ID_GENERATOR, seed);
+            log.info("Seeded id generator {} at {}", BaseEntity.ID_GENERATOR, seed);
+        } else if (updated > 0) {
+            log.info("Advanced id generator {} to {}", BaseEntity.ID_GENERATOR, seed);
+        }
+    }
+
+    private List<String> findBaseEntityTables() {
+        final List<String> tables = new ArrayList<>();
+        this.entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(descriptor -> {
+                    if (BaseEntity.class.isAssignableFrom(descriptor.getMappedClass())
+                            && descriptor instanceof AbstractEntityPersister persister) {
+                        tables.add(persister.getTableName());
+                    }
+                });
+        return tables;
+    }
+}
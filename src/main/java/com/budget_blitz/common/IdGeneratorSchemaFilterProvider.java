@@ -0,0 +1,53 @@
+package com.budget_blitz.common;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+public class IdGeneratorSchemaFilterProvider implements SchemaFilterProvider {
+
+    private static final SchemaFilter EXCLUDE_ID_GENERATOR_TABLE = new SchemaFilter() {
+
+        @Override
+        public boolean includeNamespace(final Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(final Table table) {
+            return !BaseEntity.ID_GENERATOR_TABLE.equalsIgnoreCase(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(final Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return EXCLUDE_ID_GENERATOR_TABLE;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return EXCLUDE_ID_GENERATOR_TABLE;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return EXCLUDE_ID_GENERATOR_TABLE;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return EXCLUDE_ID_GENERATOR_TABLE;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return EXCLUDE_ID_GENERATOR_TABLE;
+    }
+}
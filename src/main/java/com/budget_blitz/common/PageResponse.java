@@ -1,6 +1,10 @@
 package com.budget_blitz.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 
 @Getter
@@ -8,13 +12,31 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     private List<T> content;
     private int number;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
+
+    public static <T> PageResponse<T> of(final Slice<?> slice, final List<T> content) {
+        final PageResponse.PageResponseBuilder<T> builder = PageResponse.<T>builder()
+                .content(content)
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext());
+
+        if (slice instanceof Page<?> page) {
+            builder.totalElements(page.getTotalElements())
+                    .totalPages(page.getTotalPages());
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,77 @@
+package com.budget_blitz.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+public final class ProjectionQuerySupport {
+
+    private ProjectionQuerySupport() {
+    }
+
+    public static <E, R> Page<R> findPage(final EntityManager entityManager, final Class<E> entityClass, final Class<R> resultClass,
+                                          final BiFunction<Root<E>, CriteriaBuilder, Selection<R>> selection,
+                                          final Specification<E> spec, final Pageable pageable) {
+        final List<R> content = createQuery(entityManager, entityClass, resultClass, selection, spec, pageable)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, entityClass, spec));
+    }
+
+    public static <E, R> Slice<R> findSlice(final EntityManager entityManager, final Class<E> entityClass, final Class<R> resultClass,
+                                            final BiFunction<Root<E>, CriteriaBuilder, Selection<R>> selection,
+                                            final Specification<E> spec, final Pageable pageable) {
+        final List<R> rows = createQuery(entityManager, entityClass, resultClass, selection, spec, pageable)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private static <E, R> TypedQuery<R> createQuery(final EntityManager entityManager, final Class<E> entityClass, final Class<R> resultClass,
+                                                    final BiFunction<Root<E>, CriteriaBuilder, Selection<R>> selection,
+                                                    final Specification<E> spec, final Pageable pageable) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> query = cb.createQuery(resultClass);
+        final Root<E> root = query.from(entityClass);
+
+        query.select(selection.apply(root, cb));
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFirstResult((int) pageable.getOffset());
+    }
+
+    private static <E> long count(final EntityManager entityManager, final Class<E> entityClass, final Specification<E> spec) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<E> root = query.from(entityClass);
+
+        query.select(cb.count(root));
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,130 @@
+package com.budget_blitz.common;
+
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+public final class ScrollCursor {
+
+    private static final String ID_PROPERTY = "id";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<String, Class<?>> KEY_TYPES = Map.of(
+            ID_PROPERTY, Integer.class,
+            "createdDate", LocalDateTime.class,
+            "date", LocalDate.class,
+            "amount", BigDecimal.class
+    );
+    private static final Map<Class<?>, String> TYPE_TAGS = Map.of(
+            String.class, "s",
+            Integer.class, "i",
+            Long.class, "l",
+            BigDecimal.class, "n",
+            LocalDate.class, "d",
+            LocalDateTime.class, "t"
+    );
+    private static final Map<String, Function<String, Object>> PARSERS = Map.of(
+            "s", value -> value,
+            "i", Integer::valueOf,
+            "l", Long::valueOf,
+            "n", BigDecimal::new,
+            "d", LocalDate::parse,
+            "t", LocalDateTime::parse
+    );
+
+    private ScrollCursor() {
+    }
+
+    public static boolean supports(final Sort sort) {
+        return sort.isSorted() && sort.stream().allMatch(order -> KEY_TYPES.containsKey(order.getProperty()));
+    }
+
+    public static ScrollPosition decode(final String cursor, final Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        for (final List<String> entry : readEntries(cursor)) {
+            if (!isWellFormed(entry)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            keys.put(entry.get(0), parse(entry.get(2), PARSERS.get(entry.get(1))));
+        }
+
+        final Set<String> expectedKeys = new HashSet<>(Set.of(ID_PROPERTY));
+        sort.forEach(order -> expectedKeys.add(order.getProperty()));
+        if (!expectedKeys.equals(keys.keySet())) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(final KeysetScrollPosition position) {
+        final List<List<String>> entries = new ArrayList<>();
+        position.getKeys().forEach((name, value) -> entries.add(Arrays.asList(name, typeOf(value), value != null ? value.toString() : null)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(entries));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode scroll cursor", e);
+        }
+    }
+
+    public static <T, R> CursorPageResponse<R> toResponse(final Window<T> window, final List<R> content) {
+        final String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return CursorPageResponse.<R>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    private static List<List<String>> readEntries(final String cursor) {
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<>() {});
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static boolean isWellFormed(final List<String> entry) {
+        if (entry == null || entry.size() != 3 || entry.get(0) == null || entry.get(2) == null) {
+            return false;
+        }
+        final Class<?> type = KEY_TYPES.get(entry.get(0));
+        return type != null && TYPE_TAGS.get(type).equals(entry.get(1));
+    }
+
+    private static Object parse(final String value, final Function<String, Object> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static String typeOf(final Object value) {
+        if (value == null) {
+            return "s";
+        }
+        final String tag = TYPE_TAGS.get(value.getClass());
+        if (tag == null) {
+            throw new IllegalStateException("Unsupported cursor key type " + value.getClass());
+        }
+        return tag;
+    }
+}
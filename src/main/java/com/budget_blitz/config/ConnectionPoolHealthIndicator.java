@@ -0,0 +1,64 @@
+package com.budget_blitz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Component("connectionPool")
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    public static final Status SATURATED = new Status("SATURATED", "Connection pool is saturated");
+
+    private final DataSource dataSource;
+    private final ConnectionPoolProperties connectionPoolProperties;
+
+    @Override
+    public Health health() {
+        final HikariDataSource hikari = unwrap();
+        final HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return Health.unknown().withDetail("reason", "Connection pool is not started").build();
+        }
+
+        final int max = hikari.getMaximumPoolSize();
+        final int active = pool.getActiveConnections();
+        final int pending = pool.getThreadsAwaitingConnection();
+        final double saturation = (double) active / max;
+        final boolean saturated = pending > 0 || saturation >= this.connectionPoolProperties.getSaturationThreshold();
+        if (saturated) {
+            log.warn("Connection pool {} saturated: {}/{} active, {} threads waiting",
+                    hikari.getPoolName(), active, max, pending);
+        }
+
+        return Health.status(saturated ? SATURATED : Status.UP)
+                .withDetail("pool", hikari.getPoolName())
+                .withDetail("max", max)
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("pending", pending)
+                .withDetail("saturation", Math.round(saturation * 100) / 100.0)
+                .build();
+    }
+
+    private HikariDataSource unwrap() {
+        try {
+            if (this.dataSource.isWrapperFor(HikariDataSource.class)) {
+                return this.dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not resolve connection pool: {}", e.getMessage());
+        }
+        return null;
+    }
+}
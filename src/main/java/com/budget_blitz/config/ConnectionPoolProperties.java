@@ -0,0 +1,20 @@
+package com.budget_blitz.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.datasource.pool")
+@Component
+@Getter
+@Setter
+public class ConnectionPoolProperties {
+    private int size = 0;
+    private int dbCores = 0;
+    private int spindleCount = 1;
+    private int dbMaxConnections = 0;
+    private int reservedConnections = 10;
+    private int instances = 1;
+    private double saturationThreshold = 0.9;
+}
@@ -0,0 +1,56 @@
+package com.budget_blitz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionPoolSizer implements BeanPostProcessor {
+
+    static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+    static final String MAXIMUM_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    private final ObjectProvider<ConnectionPoolProperties> connectionPoolProperties;
+    private final Environment environment;
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            if (this.environment.containsProperty(MAXIMUM_POOL_SIZE_PROPERTY)) {
+                log.info("Connection pool {} keeps {}={}", dataSource.getPoolName(), MAXIMUM_POOL_SIZE_PROPERTY,
+                        dataSource.getMaximumPoolSize());
+                return bean;
+            }
+            final int size = resolvePoolSize(this.connectionPoolProperties.getObject());
+            dataSource.setMaximumPoolSize(size);
+            log.info("Connection pool {} sized to {} connections", dataSource.getPoolName(), size);
+        }
+        return bean;
+    }
+
+    static int resolvePoolSize(final ConnectionPoolProperties properties) {
+        if (properties.getSize() > 0) {
+            return properties.getSize();
+        }
+        final int size = properties.getDbCores() > 0
+                ? Math.max(properties.getDbCores() * 2 + properties.getSpindleCount(), HIKARI_DEFAULT_POOL_SIZE)
+                : HIKARI_DEFAULT_POOL_SIZE;
+        if (properties.getDbMaxConnections() <= 0) {
+            return size;
+        }
+        final int available = properties.getDbMaxConnections() - properties.getReservedConnections();
+        final int cap = Math.max(1, available / Math.max(1, properties.getInstances()));
+        if (cap < HIKARI_DEFAULT_POOL_SIZE) {
+            log.warn("DB_MAX_CONNECTIONS leaves {} connections per instance, below the Hikari default of {}",
+                    cap, HIKARI_DEFAULT_POOL_SIZE);
+        }
+        return Math.min(size, cap);
+    }
+}
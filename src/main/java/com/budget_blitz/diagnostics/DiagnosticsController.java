@@ -0,0 +1,55 @@
+package com.budget_blitz.diagnostics;
+
+import com.budget_blitz.diagnostics.response.DiagnosticsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("admin/diagnostics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.diagnostics", name = "enabled", havingValue = "true")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+@Tag(name = "Diagnostics", description = "Admin endpoints for Hibernate statistics and query-heavy requests")
+public class DiagnosticsController {
+
+    private final DiagnosticsService diagnosticsService;
+
+    @Operation(
+            summary = "Get query diagnostics",
+            description = "Returns Hibernate statistics and the most recent requests that exceeded the query-count threshold.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Diagnostics retrieved successfully",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = DiagnosticsResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+            }
+    )
+    @GetMapping
+    public ResponseEntity<DiagnosticsResponse> getDiagnostics() {
+        return ResponseEntity.ok(this.diagnosticsService.getDiagnostics());
+    }
+
+    @Operation(
+            summary = "Reset query diagnostics",
+            description = "Clears Hibernate statistics and the flagged request history.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Diagnostics reset successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+            }
+    )
+    @DeleteMapping
+    public ResponseEntity<Void> resetDiagnostics() {
+        this.diagnosticsService.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.budget_blitz.diagnostics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.diagnostics")
+@Component
+@Getter
+@Setter
+public class DiagnosticsProperties {
+    private boolean enabled = false;
+    private int queryCountThreshold = 20;
+    private int maxFlaggedRequests = 100;
+    private boolean responseHeaders = false;
+}
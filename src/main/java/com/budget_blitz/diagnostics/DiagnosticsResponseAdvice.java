@@ -0,0 +1,39 @@
+package com.budget_blitz.diagnostics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RestControllerAdvice
+@ConditionalOnExpression("${app.diagnostics.enabled:false} and ${app.diagnostics.response-headers:false}")
+public class DiagnosticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOAD_COUNT_HEADER = "X-Entity-Load-Count";
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body,
+                                  final MethodParameter returnType,
+                                  final MediaType selectedContentType,
+                                  final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  final ServerHttpRequest request,
+                                  final ServerHttpResponse response) {
+        final RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(diagnostics.getQueryCount()));
+            response.getHeaders().set(ENTITY_LOAD_COUNT_HEADER, String.valueOf(diagnostics.getEntityLoadCount()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,12 @@
+package com.budget_blitz.diagnostics;
+
+import com.budget_blitz.diagnostics.response.DiagnosticsResponse;
+
+public interface DiagnosticsService {
+
+    void record(String method, String path, int status, RequestDiagnostics diagnostics, long durationMillis);
+
+    DiagnosticsResponse getDiagnostics();
+
+    void reset();
+}
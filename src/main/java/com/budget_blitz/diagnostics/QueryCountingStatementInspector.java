@@ -0,0 +1,12 @@
+package com.budget_blitz.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        RequestDiagnostics.recordQuery();
+        return sql;
+    }
+}
@@ -0,0 +1,43 @@
+package com.budget_blitz.diagnostics;
+
+import lombok.Getter;
+
+@Getter
+public final class RequestDiagnostics {
+
+    private static final ThreadLocal<RequestDiagnostics> CURRENT = new ThreadLocal<>();
+
+    private int queryCount;
+    private int entityLoadCount;
+
+    private RequestDiagnostics() {
+    }
+
+    public static RequestDiagnostics begin() {
+        final RequestDiagnostics diagnostics = new RequestDiagnostics();
+        CURRENT.set(diagnostics);
+        return diagnostics;
+    }
+
+    public static RequestDiagnostics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void recordQuery() {
+        final RequestDiagnostics diagnostics = CURRENT.get();
+        if (diagnostics != null) {
+            diagnostics.queryCount++;
+        }
+    }
+
+    static void recordEntityLoad() {
+        final RequestDiagnostics diagnostics = CURRENT.get();
+        if (diagnostics != null) {
+            diagnostics.entityLoadCount++;
+        }
+    }
+}
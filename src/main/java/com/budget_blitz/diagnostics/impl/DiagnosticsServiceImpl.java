@@ -0,0 +1,98 @@
+package com.budget_blitz.diagnostics.impl;
+
+import com.budget_blitz.diagnostics.DiagnosticsProperties;
+import com.budget_blitz.diagnostics.DiagnosticsService;
+import com.budget_blitz.diagnostics.RequestDiagnostics;
+import com.budget_blitz.diagnostics.response.DiagnosticsResponse;
+import com.budget_blitz.diagnostics.response.FlaggedRequestResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@ConditionalOnProperty(prefix = "app.diagnostics", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class DiagnosticsServiceImpl implements DiagnosticsService {
+
+    private final DiagnosticsProperties diagnosticsProperties;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Deque<FlaggedRequestResponse> flaggedRequests = new ArrayDeque<>();
+    private final AtomicLong flaggedRequestCount = new AtomicLong();
+
+    @Override
+    public void record(final String method, final String path, final int status,
+                       final RequestDiagnostics diagnostics, final long durationMillis) {
+        if (diagnostics.getQueryCount() <= this.diagnosticsProperties.getQueryCountThreshold()) {
+            return;
+        }
+        log.warn("{} {} executed {} queries and loaded {} entities in {} ms (threshold {})",
+                method, path, diagnostics.getQueryCount(), diagnostics.getEntityLoadCount(), durationMillis,
+                this.diagnosticsProperties.getQueryCountThreshold());
+        this.flaggedRequestCount.incrementAndGet();
+
+        final FlaggedRequestResponse flagged = FlaggedRequestResponse.builder()
+                .method(method)
+                .path(path)
+                .status(status)
+                .queryCount(diagnostics.getQueryCount())
+                .entityLoadCount(diagnostics.getEntityLoadCount())
+                .durationMillis(durationMillis)
+                .completedAt(Instant.now())
+                .build();
+        synchronized (this.flaggedRequests) {
+            this.flaggedRequests.addFirst(flagged);
+            while (this.flaggedRequests.size() > this.diagnosticsProperties.getMaxFlaggedRequests()) {
+                this.flaggedRequests.removeLast();
+            }
+        }
+    }
+
+    @Override
+    public DiagnosticsResponse getDiagnostics() {
+        final Statistics statistics = getStatistics();
+        final List<FlaggedRequestResponse> recent;
+        synchronized (this.flaggedRequests) {
+            recent = List.copyOf(this.flaggedRequests);
+        }
+        return DiagnosticsResponse.builder()
+                .statisticsSince(statistics.getStart())
+                .queryCountThreshold(this.diagnosticsProperties.getQueryCountThreshold())
+                .prepareStatementCount(statistics.getPrepareStatementCount())
+                .queryExecutionCount(statistics.getQueryExecutionCount())
+                .queryExecutionMaxTime(statistics.getQueryExecutionMaxTime())
+                .queryExecutionMaxTimeQueryString(statistics.getQueryExecutionMaxTimeQueryString())
+                .entityLoadCount(statistics.getEntityLoadCount())
+                .entityFetchCount(statistics.getEntityFetchCount())
+                .collectionLoadCount(statistics.getCollectionLoadCount())
+                .collectionFetchCount(statistics.getCollectionFetchCount())
+                .transactionCount(statistics.getTransactionCount())
+                .flaggedRequestCount(this.flaggedRequestCount.get())
+                .flaggedRequests(recent)
+                .build();
+    }
+
+    @Override
+    public void reset() {
+        getStatistics().clear();
+        this.flaggedRequestCount.set(0);
+        synchronized (this.flaggedRequests) {
+            this.flaggedRequests.clear();
+        }
+    }
+
+    private Statistics getStatistics() {
+        return this.entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+    }
+}
@@ -0,0 +1,55 @@
+package com.budget_blitz.diagnostics.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Hibernate statistics and requests that exceeded the query-count threshold")
+public class DiagnosticsResponse {
+
+    @Schema(description = "When statistics collection started or was last reset")
+    private Instant statisticsSince;
+
+    @Schema(description = "Query-count threshold above which requests are flagged", example = "20")
+    private int queryCountThreshold;
+
+    @Schema(description = "JDBC statements prepared", example = "1520")
+    private long prepareStatementCount;
+
+    @Schema(description = "HQL and criteria queries executed", example = "830")
+    private long queryExecutionCount;
+
+    @Schema(description = "Slowest query execution time in milliseconds", example = "112")
+    private long queryExecutionMaxTime;
+
+    @Schema(description = "Query string of the slowest query")
+    private String queryExecutionMaxTimeQueryString;
+
+    @Schema(description = "Entities loaded", example = "4100")
+    private long entityLoadCount;
+
+    @Schema(description = "Entities fetched by lazy initialization", example = "310")
+    private long entityFetchCount;
+
+    @Schema(description = "Collections loaded", example = "95")
+    private long collectionLoadCount;
+
+    @Schema(description = "Collections fetched by lazy initialization", example = "95")
+    private long collectionFetchCount;
+
+    @Schema(description = "Completed transactions", example = "640")
+    private long transactionCount;
+
+    @Schema(description = "Requests flagged since the last reset", example = "3")
+    private long flaggedRequestCount;
+
+    @Schema(description = "Most recent flagged requests, newest first")
+    private List<FlaggedRequestResponse> flaggedRequests;
+}
@@ -0,0 +1,36 @@
+package com.budget_blitz.diagnostics.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "A request that executed more queries than the configured threshold")
+public class FlaggedRequestResponse {
+
+    @Schema(description = "HTTP method", example = "GET")
+    private String method;
+
+    @Schema(description = "Matched endpoint pattern, or the raw path when no handler matched", example = "/expenses")
+    private String path;
+
+    @Schema(description = "HTTP status of the response", example = "200")
+    private int status;
+
+    @Schema(description = "JDBC statements prepared while serving the request", example = "42")
+    private int queryCount;
+
+    @Schema(description = "Entities loaded while serving the request", example = "40")
+    private int entityLoadCount;
+
+    @Schema(description = "Time spent serving the request in milliseconds", example = "87")
+    private long durationMillis;
+
+    @Schema(description = "When the request completed")
+    private Instant completedAt;
+}
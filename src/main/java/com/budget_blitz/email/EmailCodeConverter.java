@@ -0,0 +1,80 @@
+package com.budget_blitz.email;
+
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+@Component
+@Converter
+public class EmailCodeConverter implements AttributeConverter<String, String> {
+
+    public static final int COLUMN_LENGTH = 64;
+
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec secretKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailCodeConverter(@Value("${app.email.outbox.code-secret}") final String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_EMAIL_CODE_SECRET);
+        }
+        try {
+            final byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            this.secretKey = new SecretKeySpec(key, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
+        }
+    }
+
+    @Override
+    public String convertToDatabaseColumn(final String code) {
+        if (code == null) {
+            return null;
+        }
+        try {
+            final byte[] iv = new byte[IV_LENGTH];
+            this.random.nextBytes(iv);
+            final Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, this.secretKey, new GCMParameterSpec(TAG_BITS, iv));
+            final byte[] encrypted = cipher.doFinal(code.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_LENGTH + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(final String column) {
+        if (column == null) {
+            return null;
+        }
+        try {
+            final byte[] data = Base64.getDecoder().decode(column);
+            final Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, this.secretKey, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            return new String(cipher.doFinal(Arrays.copyOfRange(data, IV_LENGTH, data.length)), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.budget_blitz.email;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at")
+        }
+)
+public class EmailOutbox {
+
+    public static final int LAST_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+    @Column(name = "username")
+    private String username;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template", nullable = false, length = 32)
+    private EmailTemplateName template;
+    @Convert(converter = EmailCodeConverter.class)
+    @Column(name = "code", length = EmailCodeConverter.COLUMN_LENGTH)
+    private String code;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private EmailOutboxStatus status;
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    private String lastError;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,111 @@
+package com.budget_blitz.email;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "app.email.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailService emailService;
+    private final EmailOutboxProperties emailOutboxProperties;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        final int threads = Math.max(1, this.emailOutboxProperties.getMaxConcurrency());
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, this.emailOutboxProperties.getQueueCapacity())),
+                new CustomizableThreadFactory("email-outbox-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        log.info("Email outbox dispatcher started with {} threads", threads);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        this.executor.shutdown();
+        if (!this.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Email outbox dispatcher did not drain in time, unsent rows will be retried after the claim lease");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval:5s}")
+    public void dispatch() {
+        final int batchSize = Math.max(1, this.emailOutboxProperties.getBatchSize());
+        List<EmailOutbox> claimed;
+        do {
+            claimed = this.emailOutboxService.claimDue(batchSize);
+            if (!claimed.isEmpty()) {
+                final List<EmailOutbox> batch = claimed;
+                this.executor.execute(() -> sendBatch(batch));
+            }
+        } while (claimed.size() == batchSize && !this.executor.isShutdown());
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.purge-interval:1h}")
+    public void purge() {
+        this.emailOutboxService.purgeCompleted();
+    }
+
+    private void sendBatch(final List<EmailOutbox> batch) {
+        final Map<MimeMessage, Integer> messages = new IdentityHashMap<>();
+        final Map<Integer, String> failures = new HashMap<>();
+
+        final EmailService.MessageBatch messageBatch = this.emailService.newBatch();
+        for (final EmailOutbox email : batch) {
+            try {
+                messages.put(messageBatch.create(email), email.getId());
+            } catch (Exception e) {
+                failures.put(email.getId(), e.toString());
+            }
+        }
+
+        final List<Integer> sent = new ArrayList<>();
+        if (!messages.isEmpty()) {
+            try {
+                this.emailService.sendAll(messages.keySet().toArray(MimeMessage[]::new));
+                sent.addAll(messages.values());
+            } catch (MailSendException e) {
+                final Map<Object, Exception> failedMessages = e.getFailedMessages();
+                messages.forEach((message, id) -> {
+                    final Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(message);
+                    if (failure == null) {
+                        sent.add(id);
+                    } else {
+                        failures.put(id, failure.toString());
+                    }
+                });
+            } catch (MailException e) {
+                messages.values().forEach(id -> failures.put(id, e.toString()));
+            }
+        }
+
+        try {
+            this.emailOutboxService.recordResults(sent, failures);
+        } catch (RuntimeException e) {
+            log.error("Could not record email outbox results, rows will be retried after the claim lease", e);
+            return;
+        }
+        log.debug("Email outbox batch finished: {} sent, {} failed", sent.size(), failures.size());
+    }
+}
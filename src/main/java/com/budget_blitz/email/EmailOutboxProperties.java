@@ -0,0 +1,26 @@
+package com.budget_blitz.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.email.outbox")
+@Component
+@Getter
+@Setter
+public class EmailOutboxProperties {
+    private boolean enabled = true;
+    private Duration pollInterval = Duration.ofSeconds(5);
+    private int batchSize = 50;
+    private int maxConcurrency = 2;
+    private int queueCapacity = 4;
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration claimLease = Duration.ofMinutes(5);
+    private Duration retention = Duration.ofDays(7);
+    private Duration purgeInterval = Duration.ofHours(1);
+}
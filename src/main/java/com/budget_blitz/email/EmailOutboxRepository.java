@@ -0,0 +1,38 @@
+package com.budget_blitz.email;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT e FROM EmailOutbox e
+            WHERE e.status = :status
+            AND e.nextAttemptAt <= :now
+            ORDER BY e.nextAttemptAt
+            """)
+    List<EmailOutbox> findDueForUpdate(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("""
+            DELETE FROM EmailOutbox e
+            WHERE e.status IN :statuses
+            AND e.createdAt < :before
+            """)
+    int deleteCompletedBefore(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                              @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package com.budget_blitz.email;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface EmailOutboxService {
+
+    void enqueue(final String to, final String username, final EmailTemplateName template, final String code);
+    List<EmailOutbox> claimDue(final int limit);
+    void recordResults(final Collection<Integer> sentIds, final Map<Integer, String> failures);
+    int purgeCompleted();
+}
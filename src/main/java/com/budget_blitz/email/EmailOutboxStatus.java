@@ -0,0 +1,7 @@
+package com.budget_blitz.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,14 @@
+package com.budget_blitz.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.email")
+@Component
+@Getter
+@Setter
+public class EmailProperties {
+    private String from = "contact@budget.blitz.com";
+}
@@ -1,62 +1,58 @@
 package com.budget_blitz.email;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
-
-    @Async
-    public void sendEmail(
-            final String to,
-            final String username,
-            final EmailTemplateName emailTemplateName,
-            final String activationCode,
-            final String subject) throws MessagingException {
-
-        final String templateName;
-        if (emailTemplateName == null) {
-            templateName = "confirm-email";
-        } else {
-            templateName = emailTemplateName.name();
-        }
+    private final EmailTemplateRenderer templateRenderer;
+    private final EmailProperties emailProperties;
+
+    private InternetAddress from;
+
+    @PostConstruct
+    void init() throws AddressException {
+        this.from = new InternetAddress(this.emailProperties.getFrom(), true);
+    }
+
+    public void sendAll(final MimeMessage... messages) {
+        this.mailSender.send(messages);
+    }
 
-        MimeMessage mimeMessage = this.mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(
-                mimeMessage,
-                MimeMessageHelper.MULTIPART_MODE_MIXED,
-                StandardCharsets.UTF_8.name()
-        );
+    public MessageBatch newBatch() {
+        return new MessageBatch(this.templateRenderer.newBatch());
+    }
 
-        Map<String, Object> properties = new HashMap<>();
-        properties.put("username", username);
-        properties.put("activation_code", activationCode);
-        properties.put("subject", subject);
+    public final class MessageBatch {
 
-        Context context = new Context();
-        context.setVariables(properties);
+        private final EmailTemplateRenderer.Batch renderBatch;
 
-        helper.setTo(to);
-        helper.setFrom("contact@budget.blitz.com");
-        helper.setSubject(subject);
+        private MessageBatch(final EmailTemplateRenderer.Batch renderBatch) {
+            this.renderBatch = renderBatch;
+        }
 
-        String template = this.templateEngine.process(templateName, context);
-        helper.setText(template, true);
-        this.mailSender.send(mimeMessage);
+        public MimeMessage create(final EmailOutbox email) throws MessagingException {
+            final String html = this.renderBatch.render(email);
+
+            final MimeMessage mimeMessage = mailSender.createMimeMessage();
+            final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, StandardCharsets.UTF_8.name());
+            helper.setFrom(from);
+            helper.setTo(email.getRecipient());
+            helper.setSubject(email.getTemplate().subject(email.getUsername(), email.getCode()));
+            helper.setText(html, true);
+            return mimeMessage;
+        }
     }
 }
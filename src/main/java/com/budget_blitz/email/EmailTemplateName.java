@@ -5,11 +5,17 @@ import lombok.Getter;
 @Getter
 public enum EmailTemplateName {
 
-    ACTIVATE_ACCOUNT("activate_account"),
-    PASSWORD_RESET("password_reset");
+    ACTIVATE_ACCOUNT("activate_account", "Activate Your BudgetBlitz Account – Use Your Verification Code"),
+    PASSWORD_RESET("password_reset", "%s, here's your PIN %s (valid 15 minutes)");
 
     private final String name;
-    EmailTemplateName(String name) {
+    private final String subject;
+    EmailTemplateName(String name, String subject) {
         this.name = name;
+        this.subject = subject;
+    }
+
+    public String subject(final String username, final String code) {
+        return String.format(this.subject, username, code);
     }
 }
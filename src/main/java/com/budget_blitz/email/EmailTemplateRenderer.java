@@ -0,0 +1,47 @@
+package com.budget_blitz.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+
+    @PostConstruct
+    public void init() {
+        final Batch batch = newBatch();
+        for (final EmailTemplateName template : EmailTemplateName.values()) {
+            batch.render(template, "", "");
+        }
+        log.info("Precompiled {} email templates", EmailTemplateName.values().length);
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    public final class Batch {
+
+        private final Context context = new Context();
+
+        private Batch() {
+        }
+
+        public String render(final EmailOutbox email) {
+            return render(email.getTemplate(), email.getUsername(), email.getCode());
+        }
+
+        public String render(final EmailTemplateName template, final String username, final String code) {
+            this.context.setVariable("username", username);
+            this.context.setVariable("activation_code", code);
+            return templateEngine.process(template.getName(), this.context);
+        }
+    }
+}
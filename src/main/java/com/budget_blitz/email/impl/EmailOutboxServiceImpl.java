@@ -0,0 +1,109 @@
+package com.budget_blitz.email.impl;
+
+import com.budget_blitz.email.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxProperties emailOutboxProperties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(final String to, final String username, final EmailTemplateName template, final String code) {
+        final LocalDateTime now = LocalDateTime.now();
+        final EmailOutbox email = EmailOutbox.builder()
+                .recipient(to)
+                .username(username)
+                .template(template)
+                .code(code)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        this.emailOutboxRepository.save(email);
+    }
+
+    @Override
+    @Transactional
+    public List<EmailOutbox> claimDue(final int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<EmailOutbox> due = this.emailOutboxRepository.findDueForUpdate(
+                EmailOutboxStatus.PENDING, now, PageRequest.of(0, limit));
+
+        final LocalDateTime leaseUntil = now.plus(this.emailOutboxProperties.getClaimLease());
+        due.forEach(email -> email.setNextAttemptAt(leaseUntil));
+        return due;
+    }
+
+    @Override
+    @Transactional
+    public void recordResults(final Collection<Integer> sentIds, final Map<Integer, String> failures) {
+        final Set<Integer> ids = new HashSet<>(sentIds);
+        ids.addAll(failures.keySet());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        for (final EmailOutbox email : this.emailOutboxRepository.findAllById(ids)) {
+            email.setAttempts(email.getAttempts() + 1);
+            if (failures.containsKey(email.getId())) {
+                recordFailure(email, failures.get(email.getId()), now);
+            } else {
+                email.setStatus(EmailOutboxStatus.SENT);
+                email.setSentAt(now);
+                email.setCode(null);
+                email.setLastError(null);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int purgeCompleted() {
+        final LocalDateTime before = LocalDateTime.now().minus(this.emailOutboxProperties.getRetention());
+        final int purged = this.emailOutboxRepository.deleteCompletedBefore(
+                List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED), before);
+        if (purged > 0) {
+            log.info("Purged {} sent or failed outbox emails created before {}", purged, before);
+        }
+        return purged;
+    }
+
+    private void recordFailure(final EmailOutbox email, final String error, final LocalDateTime now) {
+        email.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), EmailOutbox.LAST_ERROR_LENGTH)));
+
+        if (email.getAttempts() >= this.emailOutboxProperties.getMaxAttempts()) {
+            email.setStatus(EmailOutboxStatus.FAILED);
+            email.setCode(null);
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), error);
+            return;
+        }
+
+        email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+        log.warn("Email {} to {} failed on attempt {}, retrying at {}: {}",
+                email.getId(), email.getRecipient(), email.getAttempts(), email.getNextAttemptAt(), error);
+    }
+
+    private Duration backoff(final int attempts) {
+        final Duration maxBackoff = this.emailOutboxProperties.getMaxBackoff();
+        final Duration delay = this.emailOutboxProperties.getInitialBackoff()
+                .multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
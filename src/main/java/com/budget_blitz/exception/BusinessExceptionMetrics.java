@@ -0,0 +1,18 @@
+package com.budget_blitz.exception;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BusinessExceptionMetrics {
+
+    public static final String METRIC_NAME = "budget.business.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(final ErrorCode errorCode) {
+        this.meterRegistry.counter(METRIC_NAME, "code", errorCode.name()).increment();
+    }
+}
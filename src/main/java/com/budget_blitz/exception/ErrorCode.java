@@ -21,7 +21,7 @@ public enum ErrorCode {
     USERNAME_NOT_FOUND("USERNAME_NOT_FOUND", "username not found", HttpStatus.NOT_FOUND),
     CONSTRAINT_VIOLATION("CONSTRAINT_VIOLATION", "Constraint violation error", HttpStatus.BAD_REQUEST),
     DISABLED_USER("DISABLED_USER", "User is disabled", HttpStatus.UNAUTHORIZED),
-    ACCESS_DENIED("ACCESS_DENIED", "Insufficient permissions" ,HttpStatus.UNAUTHORIZED),
+    ACCESS_DENIED("ACCESS_DENIED", "Insufficient permissions" ,HttpStatus.FORBIDDEN),
     DATA_INTEGRITY_VIOLATION("DATA_INTEGRITY_VIOLATION", "Data integrity violation", HttpStatus.BAD_REQUEST),
     EMAIL_SENDING_FAILED("EMAIL_SENDING_FAILED", "Failed to send email. Please try again later", HttpStatus.INTERNAL_SERVER_ERROR),
     INTERNAL_SERVER_ERR("INTERNAL_SERVER_ERR", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -34,6 +34,12 @@ public enum ErrorCode {
     EXPIRED_RESET_CODE("EXPIRED_RESET_CODE", "Reset code has expired new code has been sent to your email address", HttpStatus.BAD_REQUEST),
     INVALID_PUBLIC_KEY("INVALID_PUBLIC_KEY", "Public key content is missing or empty", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_PRIVATE_KEY("INVALID_PRIVATE_KEY", "Private key content is missing or empty", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_TOKEN_DIGEST_SECRET("INVALID_TOKEN_DIGEST_SECRET", "Token digest secret is missing or empty", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_EMAIL_CODE_SECRET("INVALID_EMAIL_CODE_SECRET", "Email code secret is missing or empty", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_CURSOR("INVALID_CURSOR", "Cursor is malformed or does not match the requested sort", HttpStatus.BAD_REQUEST),
+    STATEMENT_READ_FAILED("STATEMENT_READ_FAILED", "Statement file could not be read", HttpStatus.BAD_REQUEST),
+    OVERVIEW_UNAVAILABLE("OVERVIEW_UNAVAILABLE", "Overview could not be generated in time. Please try again later", HttpStatus.SERVICE_UNAVAILABLE),
+    UNSUPPORTED_SCROLL_SORT("UNSUPPORTED_SCROLL_SORT", "Scrolling supports sorting by createdDate, date, amount or id only", HttpStatus.BAD_REQUEST),
     ;
     private final String code;
     private final String defaultMessage;
@@ -23,7 +23,8 @@ import java.time.LocalDate;
         indexes = {
             @Index(name = "idx_expense_user", columnList = "user_id"),
             @Index(name = "idx_expense_category", columnList = "category_id"),
-            @Index(name = "idx_expense_date", columnList = "date")
+            @Index(name = "idx_expense_date", columnList = "date"),
+            @Index(name = "idx_expense_user_date", columnList = "user_id, date")
         }
 )
 public class Expense extends BaseEntity {
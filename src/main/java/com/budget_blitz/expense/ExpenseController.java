@@ -1,7 +1,11 @@
 package com.budget_blitz.expense;
 
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
 import com.budget_blitz.common.PageResponse;
 import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
 import com.budget_blitz.expense.request.ExpenseFilterRequest;
 import com.budget_blitz.expense.request.UpdateExpenseRequest;
 import com.budget_blitz.expense.response.ExpenseResponse;
@@ -15,11 +19,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("expenses")
@@ -48,6 +56,51 @@ public class ExpenseController {
         return ResponseEntity.ok(this.expenseService.findAll(filterRequest, getUserId(principal)));
     }
 
+    @Operation(
+            summary = "Scroll through expenses",
+            description = "Retrieves user expenses using keyset pagination. Pass the returned nextCursor to fetch the following slice; no total count is computed."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Server error", content = @Content)
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> scroll(
+            @Parameter(hidden = true) final Authentication principal,
+            @Parameter(description = "Filter, cursor and sort options") @ModelAttribute ExpenseFilterRequest filterRequest){
+        return ResponseEntity.ok(this.expenseService.scroll(filterRequest, getUserId(principal)));
+    }
+
+    @Operation(
+            summary = "Export expenses",
+            description = "Streams all user expenses matching the filters as CSV or JSON Lines, ordered by id. Pagination and sort options are ignored."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content)
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(hidden = true) final Authentication principal,
+            @Parameter(description = "Export format", example = "CSV")
+            @RequestParam(name = "format", defaultValue = "CSV") final ExportFormat format,
+            @Parameter(description = "Filter options") @ModelAttribute ExpenseFilterRequest filterRequest) {
+        final Integer userId = getUserId(principal);
+        final StreamingResponseBody body = outputStream -> this.expenseService.export(filterRequest, userId, format, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("expenses." + format.getExtension())
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+
     @Operation(
             summary = "Create a new expense",
             description = "Creates a new expense record for the authenticated user.",
@@ -72,6 +125,30 @@ public class ExpenseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Create expenses in bulk",
+            description = "Creates many expense records for the authenticated user in one request. Entries matching an existing expense (same category, amount and date) are skipped.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "List of expenses (amount, date, description, categoryId)",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchAddExpenseRequest.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Expenses created successfully",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BatchCreateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content)
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse<ExpenseResponse>> addExpenses(
+            @RequestBody @Valid final BatchAddExpenseRequest request,
+            @Parameter(hidden = true) final Authentication principal) {
+        final BatchCreateResponse<ExpenseResponse> response = this.expenseService.addExpenses(request, getUserId(principal));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(
             summary = "Get expense by ID",
             description = "Fetches a specific expense by its ID for the authenticated user."
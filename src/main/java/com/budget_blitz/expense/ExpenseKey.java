@@ -0,0 +1,12 @@
+package com.budget_blitz.expense;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+public record ExpenseKey(Integer categoryId, BigDecimal amount, LocalDate date) {
+
+    public ExpenseKey {
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+}
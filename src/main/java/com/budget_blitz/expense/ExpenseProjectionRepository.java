@@ -0,0 +1,14 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.expense.response.ExpenseResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ExpenseProjectionRepository {
+
+    Page<ExpenseResponse> findResponses(Specification<Expense> spec, Pageable pageable);
+
+    Slice<ExpenseResponse> findResponseSlice(Specification<Expense> spec, Pageable pageable);
+}
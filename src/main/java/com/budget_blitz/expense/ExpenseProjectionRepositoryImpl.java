@@ -0,0 +1,42 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.category.Category;
+import com.budget_blitz.common.ProjectionQuerySupport;
+import com.budget_blitz.expense.response.ExpenseResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public class ExpenseProjectionRepositoryImpl implements ExpenseProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ExpenseResponse> findResponses(final Specification<Expense> spec, final Pageable pageable) {
+        return ProjectionQuerySupport.findPage(this.entityManager, Expense.class, ExpenseResponse.class,
+                ExpenseProjectionRepositoryImpl::toResponse, spec, pageable);
+    }
+
+    @Override
+    public Slice<ExpenseResponse> findResponseSlice(final Specification<Expense> spec, final Pageable pageable) {
+        return ProjectionQuerySupport.findSlice(this.entityManager, Expense.class, ExpenseResponse.class,
+                ExpenseProjectionRepositoryImpl::toResponse, spec, pageable);
+    }
+
+    private static Selection<ExpenseResponse> toResponse(final Root<Expense> root, final CriteriaBuilder cb) {
+        final Join<Expense, Category> category = root.join("category", JoinType.INNER);
+        return cb.construct(ExpenseResponse.class,
+                root.get("id"),
+                root.get("amount"),
+                root.get("date"),
+                root.get("description"),
+                category.get("name"));
+    }
+}
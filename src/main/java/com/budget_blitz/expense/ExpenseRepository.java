@@ -1,5 +1,6 @@
 package com.budget_blitz.expense;
 
+import com.budget_blitz.overview.OverviewTotalRow;
 import com.budget_blitz.overview.response.CategorySummaryResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -8,9 +9,10 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface ExpenseRepository extends JpaRepository<Expense, Integer>, JpaSpecificationExecutor<Expense> {
+public interface ExpenseRepository extends JpaRepository<Expense, Integer>, JpaSpecificationExecutor<Expense>, ExpenseProjectionRepository {
 
     @Query("""
             SELECT COUNT(e) > 0
@@ -23,14 +25,25 @@ public interface ExpenseRepository extends JpaRepository<Expense, Integer>, JpaS
     boolean existsByCategoryIdAndUserIdAndAmountAndDate(@Param("categoryId") Integer categoryId, @Param("userId") Integer userId,
                                                         @Param("amount") BigDecimal amount, @Param("date") LocalDate date);
 
+    @Query("""
+            SELECT new com.budget_blitz.expense.ExpenseKey(e.category.id, e.amount, e.date)
+            FROM Expense e
+            WHERE e.user.id =:userId
+            AND e.category.id IN :categoryIds
+            AND e.date >=:fromDate
+            AND e.date <=:toDate
+            """)
+    List<ExpenseKey> findExistingKeys(@Param("userId") Integer userId, @Param("categoryIds") Collection<Integer> categoryIds,
+                                      @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
     @Query("""
             SELECT SUM(e.amount)
             FROM Expense e
             WHERE e.user.id =:userId
-            AND (:month IS NULL OR MONTH(e.date) = :month)
-            AND (:year IS NULL OR YEAR(e.date) = :year)
+            AND e.date >=:fromDate
+            AND e.date <:toDate
             """)
-    BigDecimal getTotalExpenses(@Param("userId") Integer userId, @Param("month") Integer month, @Param("year") Integer year);
+    BigDecimal getTotalExpenses(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
     @Query("""
             SELECT new com.budget_blitz.overview.response.CategorySummaryResponse(c.name AS categoryName, SUM(e.amount) AS total)
@@ -38,9 +51,27 @@ public interface ExpenseRepository extends JpaRepository<Expense, Integer>, JpaS
             JOIN FETCH Category c
             ON e.category.id = c.id
             WHERE e.user.id =:userId
-            AND (:month IS NULL OR MONTH(e.date) = :month)
-            AND (:year IS NULL OR YEAR(e.date) = :year)
+            AND e.date >=:fromDate
+            AND e.date <:toDate
             GROUP BY c.name
             """)
-    List<CategorySummaryResponse> getTotalExpensesByCategory(@Param("userId") Integer userId, @Param("month") Integer month, @Param("year") Integer year);
+    List<CategorySummaryResponse> getTotalExpensesByCategory(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query(value = """
+            SELECT 'INCOME' AS kind, NULL AS categoryName, SUM(i.amount) AS total
+            FROM incomes i
+            WHERE i.user_id =:userId
+            AND i.date >=:fromDate
+            AND i.date <:toDate
+            UNION ALL
+            SELECT 'EXPENSE' AS kind, c.name AS categoryName, SUM(e.amount) AS total
+            FROM expenses e
+            JOIN categories c
+            ON c.id = e.category_id
+            WHERE e.user_id =:userId
+            AND e.date >=:fromDate
+            AND e.date <:toDate
+            GROUP BY c.name
+            """, nativeQuery = true)
+    List<OverviewTotalRow> getOverviewTotals(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
\ No newline at end of file
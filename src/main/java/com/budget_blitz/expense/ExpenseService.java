@@ -1,16 +1,26 @@
 package com.budget_blitz.expense;
 
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
 import com.budget_blitz.common.PageResponse;
 import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
 import com.budget_blitz.expense.request.ExpenseFilterRequest;
 import com.budget_blitz.expense.request.UpdateExpenseRequest;
 import com.budget_blitz.expense.response.ExpenseResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface ExpenseService {
 
     ExpenseResponse addExpense(final AddExpenseRequest request, final Integer userId);
+    BatchCreateResponse<ExpenseResponse> addExpenses(final BatchAddExpenseRequest request, final Integer userId);
     ExpenseResponse getExpenseById(final Integer expenseId,final Integer userId);
     ExpenseResponse updateExpenseById(final UpdateExpenseRequest request, final Integer expenseId, final Integer userId);
     void deleteExpenseById(final Integer expenseId, final Integer userId);
     PageResponse<ExpenseResponse> findAll(final ExpenseFilterRequest filterRequest, final Integer userId);
+    CursorPageResponse<ExpenseResponse> scroll(final ExpenseFilterRequest filterRequest, final Integer userId);
+    void export(final ExpenseFilterRequest filterRequest, final Integer userId, final ExportFormat format, final OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
@@ -11,6 +11,15 @@ public class ExpenseSpecification {
         return ((root, query, cb) -> cb.equal(root.get("user").get("id"), userId));
     }
 
+    public static Specification<Expense> idGreaterThan(Integer id) {
+        return (root, query, cb) -> {
+            if (id == null) {
+                return cb.conjunction();
+            }
+            return cb.greaterThan(root.get("id"), id);
+        };
+    }
+
     public static Specification<Expense> dateBetween(LocalDate fromDate, LocalDate toDate) {
         return (root, query, cb) -> {
             if (fromDate == null || toDate == null) {
@@ -2,67 +2,122 @@ package com.budget_blitz.expense.impl;
 
 import com.budget_blitz.category.Category;
 import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
+import com.budget_blitz.common.ExportProperties;
+import com.budget_blitz.common.ExportWriter;
 import com.budget_blitz.common.PageResponse;
+import com.budget_blitz.common.ScrollCursor;
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.expense.*;
 import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
 import com.budget_blitz.expense.request.ExpenseFilterRequest;
 import com.budget_blitz.expense.request.UpdateExpenseRequest;
 import com.budget_blitz.expense.response.ExpenseResponse;
+import com.budget_blitz.overview.MonthlySummaryService;
+import com.budget_blitz.search.FullTextSearch;
+import com.budget_blitz.search.SearchProperties;
 import com.budget_blitz.users.User;
 import com.budget_blitz.users.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ExpenseServiceImpl implements ExpenseService {
 
+    private static final List<String> EXPORT_HEADER = List.of("id", "date", "amount", "category", "description");
+
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final ExpenseRepository expenseRepository;
     private final ExpenseMapper expenseMapper;
+    private final MonthlySummaryService monthlySummaryService;
+    private final SearchProperties searchProperties;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
 
     @Override
     public PageResponse<ExpenseResponse> findAll(final ExpenseFilterRequest filter, final Integer userId) {
 
-        final Specification<Expense> spec = ExpenseSpecification.belongsToUser(userId)
-                .and(ExpenseSpecification.dateBetween(filter.getFromDate(), filter.getToDate()))
-                .and(ExpenseSpecification.amountGreaterThen(filter.getMinAmount()))
-                .and(ExpenseSpecification.amountLessThen(filter.getMaxAmount()))
-                .and(ExpenseSpecification.belongToCategory(filter.getCategory()))
-                .and(ExpenseSpecification.containKeyword(filter.getKeyword()));
+        final Specification<Expense> spec = buildSpecification(filter, userId);
+        final Pageable pageable = filter.toPageable(this.searchProperties.isFullTextEnabled());
 
+        final Slice<ExpenseResponse> expenses = filter.isSlice()
+                ? this.expenseRepository.findResponseSlice(spec, pageable)
+                : this.expenseRepository.findResponses(spec, pageable);
 
-        final String[] sortParam = filter.getSort().split(",");
-        final Sort sort = Sort.by(Sort.Direction.fromString(sortParam[1]), sortParam[0]);
+        return PageResponse.of(expenses, expenses.getContent());
+    }
 
-        final Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize(), sort);
-        final Page<Expense> expenses = this.expenseRepository.findAll(spec, pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ExpenseResponse> scroll(final ExpenseFilterRequest filter, final Integer userId) {
+
+        final Specification<Expense> spec = buildSpecification(filter, userId);
+        final Sort sort = filter.toScrollSort();
+        final ScrollPosition position = ScrollCursor.decode(filter.getCursor(), sort);
+
+        final Window<Expense> expenses = this.expenseRepository.findBy(spec, query -> query
+                .project("category")
+                .sortBy(sort)
+                .limit(filter.getSize())
+                .scroll(position));
         final List<ExpenseResponse> responses = expenses.stream().map(expenseMapper::toExpenseResponse).toList();
 
-        return new PageResponse<>(
-                responses,
-                expenses.getNumber(),
-                expenses.getSize(),
-                expenses.getTotalElements(),
-                expenses.getTotalPages(),
-                expenses.isFirst(),
-                expenses.isLast()
-        );
+        return ScrollCursor.toResponse(expenses, responses);
+    }
+
+    @Override
+    public void export(final ExpenseFilterRequest filter, final Integer userId, final ExportFormat format,
+                       final OutputStream outputStream) throws IOException {
+
+        final Specification<Expense> spec = buildSpecification(filter, userId);
+        final Pageable chunk = PageRequest.of(0, this.exportProperties.getChunkSize(), Sort.by("id"));
+        final ExportWriter<ExpenseResponse> writer = new ExportWriter<>(format, outputStream, this.objectMapper, EXPORT_HEADER,
+                expense -> Arrays.asList(expense.getId(), expense.getDate(), expense.getAmount(),
+                        expense.getCategoryName(), expense.getDescription()));
+
+        Integer lastId = null;
+        long exported = 0;
+        Slice<ExpenseResponse> rows;
+        do {
+            rows = this.expenseRepository.findResponseSlice(spec.and(ExpenseSpecification.idGreaterThan(lastId)), chunk);
+            for (final ExpenseResponse row : rows) {
+                writer.write(row);
+                lastId = row.getId();
+            }
+            writer.flush();
+            exported += rows.getNumberOfElements();
+        } while (rows.hasNext());
+
+        log.info("Exported {} expenses as {} for user={}", exported, format, userId);
     }
 
     @Override
@@ -95,11 +150,65 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         final Expense expense  = this.expenseMapper.toExpense(request, user, category);
         this.expenseRepository.save(expense);
+        this.monthlySummaryService.applyExpenseDelta(user.getId(), category.getId(), expense.getDate(), expense.getAmount());
         log.info("Saving expense: {}", expense);
 
         return this.expenseMapper.toExpenseResponse(expense);
     }
 
+    @Override
+    @Transactional
+    public BatchCreateResponse<ExpenseResponse> addExpenses(final BatchAddExpenseRequest request, final Integer userId) {
+
+        final User user = this.userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, userId));
+
+        boolean isUserRole = user.getRoles()
+                                 .stream()
+                                 .anyMatch(role -> role.getName().equals("ROLE_USER"));
+        if (!isUserRole) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        final List<AddExpenseRequest> items = request.getExpenses();
+        final Set<Integer> categoryIds = items.stream().map(AddExpenseRequest::getCategoryId).collect(Collectors.toSet());
+        final Map<Integer, Category> categories = this.categoryRepository.findAllByCategoryIdsAndUserId(categoryIds, user.getId())
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        if (categories.size() != categoryIds.size()) {
+            throw new EntityNotFoundException("Category not found");
+        }
+
+        final LocalDate fromDate = items.stream().map(AddExpenseRequest::getDate).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate toDate = items.stream().map(AddExpenseRequest::getDate).max(LocalDate::compareTo).orElseThrow();
+        final Set<ExpenseKey> seen = new HashSet<>(this.expenseRepository.findExistingKeys(user.getId(), categoryIds, fromDate, toDate));
+
+        final List<Expense> expenses = new ArrayList<>(items.size());
+        for (final AddExpenseRequest item : items) {
+            if (seen.add(new ExpenseKey(item.getCategoryId(), item.getAmount(), item.getDate()))) {
+                expenses.add(this.expenseMapper.toExpense(item, user, categories.get(item.getCategoryId())));
+            }
+        }
+
+        this.expenseRepository.saveAll(expenses);
+
+        final Map<Integer, Map<YearMonth, BigDecimal>> deltas = new HashMap<>();
+        for (final Expense expense : expenses) {
+            deltas.computeIfAbsent(expense.getCategory().getId(), id -> new HashMap<>())
+                    .merge(YearMonth.from(expense.getDate()), expense.getAmount(), BigDecimal::add);
+        }
+        deltas.forEach((categoryId, months) -> months.forEach((month, delta) ->
+                this.monthlySummaryService.applyExpenseDelta(user.getId(), categoryId, month.atDay(1), delta)));
+
+        final int skipped = items.size() - expenses.size();
+        log.info("Saved {} expenses in batch for user={}, skipped {} duplicates", expenses.size(), userId, skipped);
+
+        return new BatchCreateResponse<>(
+                expenses.stream().map(expenseMapper::toExpenseResponse).toList(),
+                skipped
+        );
+    }
+
     @Override
     public ExpenseResponse getExpenseById(final Integer expenseId, final Integer userId) {
         final Expense expense = this.expenseRepository.findById(expenseId)
@@ -126,14 +235,22 @@ public class ExpenseServiceImpl implements ExpenseService {
                     .orElseThrow(() -> new EntityNotFoundException("Category not found"));
         }
 
+        final Integer previousCategoryId = expense.getCategory().getId();
+        final LocalDate previousDate = expense.getDate();
+        final BigDecimal previousAmount = expense.getAmount();
+
         this.expenseMapper.updateExpenseRequestToExpense(request, expense);
         log.debug("Updated expense: {}", expense);
         this.expenseRepository.save(expense);
 
+        this.monthlySummaryService.applyExpenseDelta(userId, previousCategoryId, previousDate, previousAmount.negate());
+        this.monthlySummaryService.applyExpenseDelta(userId, expense.getCategory().getId(), expense.getDate(), expense.getAmount());
+
         return this.expenseMapper.toExpenseResponse(expense);
     }
 
     @Override
+    @Transactional
     public void deleteExpenseById(final Integer expenseId, final Integer userId) {
         final Expense expense = this.expenseRepository.findById(expenseId)
                 .orElseThrow(() -> new EntityNotFoundException("Expense not found"));
@@ -144,5 +261,17 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         log.info("Deleting expense with id={} for user={}", expenseId, userId);
         this.expenseRepository.deleteById(expenseId);
+        this.monthlySummaryService.applyExpenseDelta(userId, expense.getCategory().getId(), expense.getDate(), expense.getAmount().negate());
+    }
+
+    private Specification<Expense> buildSpecification(final ExpenseFilterRequest filter, final Integer userId) {
+        return ExpenseSpecification.belongsToUser(userId)
+                .and(ExpenseSpecification.dateBetween(filter.getFromDate(), filter.getToDate()))
+                .and(ExpenseSpecification.amountGreaterThen(filter.getMinAmount()))
+                .and(ExpenseSpecification.amountLessThen(filter.getMaxAmount()))
+                .and(ExpenseSpecification.belongToCategory(filter.getCategory()))
+                .and(this.searchProperties.isFullTextEnabled()
+                        ? FullTextSearch.matches("description", filter.getKeyword(), filter.isRelevanceSort())
+                        : ExpenseSpecification.containKeyword(filter.getKeyword()));
     }
 }
\ No newline at end of file
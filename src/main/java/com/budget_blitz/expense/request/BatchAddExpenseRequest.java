@@ -0,0 +1,24 @@
+package com.budget_blitz.expense.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Request body for adding many expense records at once")
+public class BatchAddExpenseRequest {
+
+    @NotEmpty(message = "At least one expense is required")
+    @Size(max = 5000, message = "A batch can contain at most 5000 expenses")
+    @ArraySchema(schema = @Schema(implementation = AddExpenseRequest.class), maxItems = 5000)
+    private List<@Valid AddExpenseRequest> expenses;
+}
@@ -1,6 +1,7 @@
 package com.budget_blitz.handler;
 
 import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.BusinessExceptionMetrics;
 import com.budget_blitz.exception.ErrorCode;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -37,8 +38,11 @@ import java.util.List;
 @Slf4j
 public class GlobalApplicationHandler {
 
+    private final BusinessExceptionMetrics businessExceptionMetrics;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleException(final BusinessException ex) {
+        this.businessExceptionMetrics.record(ex.getErrorCode());
         final ErrorResponse body = ErrorResponse.builder()
                 .code(ex.getErrorCode().getCode())
                 .defaultMessage(ex.getMessage())
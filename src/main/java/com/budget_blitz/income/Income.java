@@ -21,7 +21,8 @@ import java.time.LocalDate;
 @Table(name = "incomes",
         indexes = {
                 @Index(name = "idx_income_user", columnList = "user_id"),
-                @Index(name = "idx_income_date", columnList = "date")
+                @Index(name = "idx_income_date", columnList = "date"),
+                @Index(name = "idx_income_user_date", columnList = "user_id, date")
         }
 )
 public class Income extends BaseEntity {
@@ -1,7 +1,11 @@
 package com.budget_blitz.income;
 
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
 import com.budget_blitz.common.PageResponse;
 import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.BatchAddIncomeRequest;
 import com.budget_blitz.income.request.IncomeFilterRequest;
 import com.budget_blitz.income.request.UpdateIncomeRequest;
 import com.budget_blitz.income.response.IncomeResponse;
@@ -14,11 +18,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("incomes")
@@ -45,6 +53,49 @@ public class IncomeController {
         return ResponseEntity.ok(this.incomeService.findAll(filterRequest, getUserId(principal)));
     }
 
+    @Operation(
+            summary = "Scroll through incomes",
+            description = "Retrieve the authenticated user's incomes using keyset pagination. Pass the returned nextCursor to fetch the following slice; no total count is computed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Slice of incomes retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<IncomeResponse>> scroll(
+            @Parameter(hidden = true) final Authentication principal,
+            @Parameter(description = "Filter, cursor and sort options") @ModelAttribute IncomeFilterRequest filterRequest){
+        return ResponseEntity.ok(this.incomeService.scroll(filterRequest, getUserId(principal)));
+    }
+
+    @Operation(
+            summary = "Export incomes",
+            description = "Stream all of the authenticated user's incomes matching the filters as CSV or JSON Lines, ordered by id. Pagination and sort options are ignored.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(hidden = true) final Authentication principal,
+            @Parameter(description = "Export format", example = "CSV")
+            @RequestParam(name = "format", defaultValue = "CSV") final ExportFormat format,
+            @Parameter(description = "Filter options") @ModelAttribute IncomeFilterRequest filterRequest){
+        final Integer userId = getUserId(principal);
+        final StreamingResponseBody body = outputStream -> this.incomeService.export(filterRequest, userId, format, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("incomes." + format.getExtension())
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+
     @Operation(
             summary = "Add new income",
             description = "Create a new income record for the authenticated user.",
@@ -68,6 +119,29 @@ public class IncomeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Add incomes in bulk",
+            description = "Create many income records for the authenticated user in one request. Entries matching an existing income (same amount and date) are skipped.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchAddIncomeRequest.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Incomes created successfully",
+                            content = @Content(schema = @Schema(implementation = BatchCreateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input data"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse<IncomeResponse>> addIncomes(
+            @RequestBody
+            @Valid
+            final BatchAddIncomeRequest request, @Parameter(hidden = true) final Authentication principal) {
+        final BatchCreateResponse<IncomeResponse> response = this.incomeService.addIncomes(request, getUserId(principal));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
 
     @Operation(
             summary = "Get income by ID",
@@ -0,0 +1,12 @@
+package com.budget_blitz.income;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+public record IncomeKey(BigDecimal amount, LocalDate date) {
+
+    public IncomeKey {
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,14 @@
+package com.budget_blitz.income;
+
+import com.budget_blitz.income.response.IncomeResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface IncomeProjectionRepository {
+
+    Page<IncomeResponse> findResponses(Specification<Income> spec, Pageable pageable);
+
+    Slice<IncomeResponse> findResponseSlice(Specification<Income> spec, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package com.budget_blitz.income;
+
+import com.budget_blitz.common.ProjectionQuerySupport;
+import com.budget_blitz.income.response.IncomeResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public class IncomeProjectionRepositoryImpl implements IncomeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<IncomeResponse> findResponses(final Specification<Income> spec, final Pageable pageable) {
+        return ProjectionQuerySupport.findPage(this.entityManager, Income.class, IncomeResponse.class,
+                IncomeProjectionRepositoryImpl::toResponse, spec, pageable);
+    }
+
+    @Override
+    public Slice<IncomeResponse> findResponseSlice(final Specification<Income> spec, final Pageable pageable) {
+        return ProjectionQuerySupport.findSlice(this.entityManager, Income.class, IncomeResponse.class,
+                IncomeProjectionRepositoryImpl::toResponse, spec, pageable);
+    }
+
+    private static Selection<IncomeResponse> toResponse(final Root<Income> root, final CriteriaBuilder cb) {
+        return cb.construct(IncomeResponse.class,
+                root.get("id"),
+                root.get("amount"),
+                root.get("date"),
+                root.get("description"));
+    }
+}
@@ -6,8 +6,9 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
-public interface IncomeRepository extends JpaRepository<Income, Integer>, JpaSpecificationExecutor<Income> {
+public interface IncomeRepository extends JpaRepository<Income, Integer>, JpaSpecificationExecutor<Income>, IncomeProjectionRepository {
 
     @Query("""
             SELECT COUNT(i) > 0
@@ -19,13 +20,21 @@ public interface IncomeRepository extends JpaRepository<Income, Integer>, JpaSpe
             """)
     boolean existsByUserIdAndAmountAndDate(@Param("userId") Integer userId, @Param("amount") BigDecimal amount, @Param("date") LocalDate date);
 
+    @Query("""
+            SELECT new com.budget_blitz.income.IncomeKey(i.amount, i.date)
+            FROM Income i
+            WHERE i.user.id =:userId
+            AND i.date >=:fromDate
+            AND i.date <=:toDate
+            """)
+    List<IncomeKey> findExistingKeys(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
     @Query("""
             SELECT SUM(i.amount)
             FROM Income i
             WHERE i.user.id =:userId
-            AND (:month IS NULL OR MONTH(i.date) = :month)
-            AND (:year IS NULL OR YEAR(i.date) = :year)
+            AND i.date >=:fromDate
+            AND i.date <:toDate
             """)
-    BigDecimal getTotalIncome(@Param("userId") Integer userId, @Param("month") Integer month, @Param("year") Integer year);
+    BigDecimal getTotalIncome(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
@@ -1,16 +1,26 @@
 package com.budget_blitz.income;
 
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
 import com.budget_blitz.common.PageResponse;
 import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.BatchAddIncomeRequest;
 import com.budget_blitz.income.request.IncomeFilterRequest;
 import com.budget_blitz.income.request.UpdateIncomeRequest;
 import com.budget_blitz.income.response.IncomeResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface IncomeService {
 
    IncomeResponse addIncome(final AddIncomeRequest request, final Integer userId);
+   BatchCreateResponse<IncomeResponse> addIncomes(final BatchAddIncomeRequest request, final Integer userId);
    IncomeResponse getIncomeById(final Integer incomeId,final Integer userId);
    IncomeResponse updateIncomeById(final UpdateIncomeRequest request, final Integer incomeId, final Integer userId);
    void deleteIncomeById(final Integer incomeId, final Integer userId);
    PageResponse<IncomeResponse> findAll(final IncomeFilterRequest filterRequest, final Integer userId);
+   CursorPageResponse<IncomeResponse> scroll(final IncomeFilterRequest filterRequest, final Integer userId);
+   void export(final IncomeFilterRequest filterRequest, final Integer userId, final ExportFormat format, final OutputStream outputStream) throws IOException;
 }
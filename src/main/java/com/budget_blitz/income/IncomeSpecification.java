@@ -11,6 +11,15 @@ public class IncomeSpecification {
         return ((root, query, cb) -> cb.equal(root.get("user").get("id"), userId));
     }
 
+    public static Specification<Income> idGreaterThan(Integer id) {
+        return (root, query, cb) -> {
+            if (id == null) {
+                return cb.conjunction();
+            }
+            return cb.greaterThan(root.get("id"), id);
+        };
+    }
+
     public static Specification<Income> dateBetween(LocalDate fromDate, LocalDate toDate) {
         return (root, query, cb) -> {
             if (fromDate == null || toDate == null) {
@@ -1,64 +1,116 @@
 package com.budget_blitz.income.impl;
 
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.common.ExportFormat;
+import com.budget_blitz.common.ExportProperties;
+import com.budget_blitz.common.ExportWriter;
 import com.budget_blitz.common.PageResponse;
+import com.budget_blitz.common.ScrollCursor;
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.income.*;
 import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.BatchAddIncomeRequest;
 import com.budget_blitz.income.request.IncomeFilterRequest;
 import com.budget_blitz.income.request.UpdateIncomeRequest;
 import com.budget_blitz.income.response.IncomeResponse;
+import com.budget_blitz.overview.MonthlySummaryService;
+import com.budget_blitz.search.FullTextSearch;
+import com.budget_blitz.search.SearchProperties;
 import com.budget_blitz.users.User;
 import com.budget_blitz.users.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class incomeServiceImpl implements IncomeService {
 
+    private static final List<String> EXPORT_HEADER = List.of("id", "date", "amount", "description");
+
     private final UserRepository userRepository;
     private final IncomeRepository incomeRepository;
     private final IncomeMapper incomeMapper;
+    private final MonthlySummaryService monthlySummaryService;
+    private final SearchProperties searchProperties;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
 
     @Override
     public PageResponse<IncomeResponse> findAll(final IncomeFilterRequest filter, final Integer userId) {
 
-        final Specification<Income> spec = IncomeSpecification.belongsToUser(userId)
-                .and(IncomeSpecification.dateBetween(filter.getFromDate(), filter.getToDate()))
-                .and(IncomeSpecification.amountGreaterThen(filter.getMinAmount()))
-                .and(IncomeSpecification.amountLessThen(filter.getMaxAmount()))
-                .and(IncomeSpecification.containKeyword(filter.getKeyword()));
+        final Specification<Income> spec = buildSpecification(filter, userId);
+        final Pageable pageable = filter.toPageable(this.searchProperties.isFullTextEnabled());
+
+        final Slice<IncomeResponse> incomes = filter.isSlice()
+                ? this.incomeRepository.findResponseSlice(spec, pageable)
+                : this.incomeRepository.findResponses(spec, pageable);
+
+        return PageResponse.of(incomes, incomes.getContent());
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<IncomeResponse> scroll(final IncomeFilterRequest filter, final Integer userId) {
 
-        final String[] sortParam = filter.getSort().split(",");
-        final Sort sort = Sort.by(Sort.Direction.fromString(sortParam[1]), sortParam[0]);
+        final Specification<Income> spec = buildSpecification(filter, userId);
+        final Sort sort = filter.toScrollSort();
+        final ScrollPosition position = ScrollCursor.decode(filter.getCursor(), sort);
 
-        final Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize(), sort);
-        final Page<Income> incomes = this.incomeRepository.findAll(spec, pageable);
+        final Window<Income> incomes = this.incomeRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(filter.getSize())
+                .scroll(position));
         final List<IncomeResponse> responses = incomes.stream().map(incomeMapper::toIncomeResponse).toList();
 
-        return new PageResponse<>(
-                responses,
-                incomes.getNumber(),
-                incomes.getSize(),
-                incomes.getTotalElements(),
-                incomes.getTotalPages(),
-                incomes.isFirst(),
-                incomes.isLast()
-        );
+        return ScrollCursor.toResponse(incomes, responses);
+    }
+
+    @Override
+    public void export(final IncomeFilterRequest filter, final Integer userId, final ExportFormat format,
+                       final OutputStream outputStream) throws IOException {
+
+        final Specification<Income> spec = buildSpecification(filter, userId);
+        final Pageable chunk = PageRequest.of(0, this.exportProperties.getChunkSize(), Sort.by("id"));
+        final ExportWriter<IncomeResponse> writer = new ExportWriter<>(format, outputStream, this.objectMapper, EXPORT_HEADER,
+                income -> Arrays.asList(income.getId(), income.getDate(), income.getAmount(), income.getDescription()));
+
+        Integer lastId = null;
+        long exported = 0;
+        Slice<IncomeResponse> rows;
+        do {
+            rows = this.incomeRepository.findResponseSlice(spec.and(IncomeSpecification.idGreaterThan(lastId)), chunk);
+            for (final IncomeResponse row : rows) {
+                writer.write(row);
+                lastId = row.getId();
+            }
+            writer.flush();
+            exported += rows.getNumberOfElements();
+        } while (rows.hasNext());
+
+        log.info("Exported {} incomes as {} for user={}", exported, format, userId);
     }
 
     @Override
@@ -87,11 +139,56 @@ public class incomeServiceImpl implements IncomeService {
 
         final Income income = this.incomeMapper.toIncome(request, user);
         this.incomeRepository.save(income);
+        this.monthlySummaryService.applyIncomeDelta(user.getId(), income.getDate(), income.getAmount());
         log.info("Saving income: {}", income);
 
         return this.incomeMapper.toIncomeResponse(income);
     }
 
+    @Override
+    @Transactional
+    public BatchCreateResponse<IncomeResponse> addIncomes(final BatchAddIncomeRequest request, final Integer userId) {
+
+        final User user = this.userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, userId));
+
+        boolean isUserRole = user.getRoles()
+                .stream()
+                .anyMatch(role -> role.getName().equals("ROLE_USER"));
+
+        if (!isUserRole) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        final List<AddIncomeRequest> items = request.getIncomes();
+        final LocalDate fromDate = items.stream().map(AddIncomeRequest::getDate).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate toDate = items.stream().map(AddIncomeRequest::getDate).max(LocalDate::compareTo).orElseThrow();
+        final Set<IncomeKey> seen = new HashSet<>(this.incomeRepository.findExistingKeys(user.getId(), fromDate, toDate));
+
+        final List<Income> incomes = new ArrayList<>(items.size());
+        for (final AddIncomeRequest item : items) {
+            if (seen.add(new IncomeKey(item.getAmount(), item.getDate()))) {
+                incomes.add(this.incomeMapper.toIncome(item, user));
+            }
+        }
+
+        this.incomeRepository.saveAll(incomes);
+
+        final Map<YearMonth, BigDecimal> deltas = new HashMap<>();
+        for (final Income income : incomes) {
+            deltas.merge(YearMonth.from(income.getDate()), income.getAmount(), BigDecimal::add);
+        }
+        deltas.forEach((month, delta) -> this.monthlySummaryService.applyIncomeDelta(user.getId(), month.atDay(1), delta));
+
+        final int skipped = items.size() - incomes.size();
+        log.info("Saved {} incomes in batch for user={}, skipped {} duplicates", incomes.size(), userId, skipped);
+
+        return new BatchCreateResponse<>(
+                incomes.stream().map(incomeMapper::toIncomeResponse).toList(),
+                skipped
+        );
+    }
+
     @Override
     public IncomeResponse getIncomeById(final Integer incomeId, final Integer userId) {
         final Income income = this.incomeRepository.findById(incomeId)
@@ -104,6 +201,7 @@ public class incomeServiceImpl implements IncomeService {
     }
 
     @Override
+    @Transactional
     public IncomeResponse updateIncomeById(final UpdateIncomeRequest request, final Integer incomeId, final Integer userId) {
         final Income income = this.incomeRepository.findById(incomeId)
                 .orElseThrow(() -> new EntityNotFoundException("Income not found"));
@@ -112,14 +210,21 @@ public class incomeServiceImpl implements IncomeService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        final LocalDate previousDate = income.getDate();
+        final BigDecimal previousAmount = income.getAmount();
+
         this.incomeMapper.updateIncomeRequestToIncome(request, income);
         log.debug("Updated income: {}", income);
         this.incomeRepository.save(income);
 
+        this.monthlySummaryService.applyIncomeDelta(userId, previousDate, previousAmount.negate());
+        this.monthlySummaryService.applyIncomeDelta(userId, income.getDate(), income.getAmount());
+
         return this.incomeMapper.toIncomeResponse(income);
     }
 
     @Override
+    @Transactional
     public void deleteIncomeById(final Integer incomeId, final Integer userId) {
         final Income income = this.incomeRepository.findById(incomeId)
                 .orElseThrow(() -> new EntityNotFoundException("Income not found"));
@@ -130,5 +235,16 @@ public class incomeServiceImpl implements IncomeService {
 
         log.info("Deleting income with id={} for user={}", incomeId, userId);
         this.incomeRepository.deleteById(incomeId);
+        this.monthlySummaryService.applyIncomeDelta(userId, income.getDate(), income.getAmount().negate());
+    }
+
+    private Specification<Income> buildSpecification(final IncomeFilterRequest filter, final Integer userId) {
+        return IncomeSpecification.belongsToUser(userId)
+                .and(IncomeSpecification.dateBetween(filter.getFromDate(), filter.getToDate()))
+                .and(IncomeSpecification.amountGreaterThen(filter.getMinAmount()))
+                .and(IncomeSpecification.amountLessThen(filter.getMaxAmount()))
+                .and(this.searchProperties.isFullTextEnabled()
+                        ? FullTextSearch.matches("description", filter.getKeyword(), filter.isRelevanceSort())
+                        : IncomeSpecification.containKeyword(filter.getKeyword()));
     }
 }
\ No newline at end of file
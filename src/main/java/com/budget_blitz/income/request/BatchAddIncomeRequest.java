@@ -0,0 +1,24 @@
+package com.budget_blitz.income.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Request body for adding many income records at once")
+public class BatchAddIncomeRequest {
+
+    @NotEmpty(message = "At least one income is required")
+    @Size(max = 5000, message = "A batch can contain at most 5000 incomes")
+    @ArraySchema(schema = @Schema(implementation = AddIncomeRequest.class), maxItems = 5000)
+    private List<@Valid AddIncomeRequest> incomes;
+}
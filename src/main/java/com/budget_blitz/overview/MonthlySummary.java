@@ -0,0 +1,28 @@
+package com.budget_blitz.overview;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "monthly_summary")
+public class MonthlySummary {
+
+    public static final int INCOME_CATEGORY_ID = 0;
+
+    @EmbeddedId
+    private MonthlySummaryId id;
+
+    @Column(name = "total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal total;
+}
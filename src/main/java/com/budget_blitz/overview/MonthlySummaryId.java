@@ -0,0 +1,30 @@
+package com.budget_blitz.overview;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class MonthlySummaryId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "summary_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "summary_month", nullable = false)
+    private Integer month;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+}
@@ -0,0 +1,30 @@
+package com.budget_blitz.overview;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MonthlySummaryRebuildRepository extends JpaRepository<MonthlySummaryRebuild, Integer> {
+
+    @Modifying
+    @Query("""
+            UPDATE MonthlySummaryRebuild r
+            SET r.running = true, r.startedAt = :now
+            WHERE r.id = :id
+            AND (r.running = false OR r.startedAt < :staleBefore)
+            AND (:force = true OR r.completedAt IS NULL)
+            """)
+    int claim(@Param("id") Integer id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("force") boolean force);
+
+    @Modifying
+    @Query("""
+            UPDATE MonthlySummaryRebuild r
+            SET r.running = false, r.completedAt = COALESCE(:completedAt, r.completedAt)
+            WHERE r.id = :id
+            """)
+    int release(@Param("id") Integer id, @Param("completedAt") LocalDateTime completedAt);
+}
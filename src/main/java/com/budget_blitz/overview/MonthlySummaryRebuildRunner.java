@@ -0,0 +1,28 @@
+package com.budget_blitz.overview;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlySummaryRebuildRunner implements SmartInitializingSingleton {
+
+    public static final String REBUILD_OPTION = "rebuild-monthly-summary";
+
+    private final MonthlySummaryService monthlySummaryService;
+    private final OverviewProperties overviewProperties;
+    private final ApplicationArguments applicationArguments;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final boolean force = this.applicationArguments.containsOption(REBUILD_OPTION);
+        if (force || this.overviewProperties.isRebuildOnStartup()) {
+            log.info("Rebuilding monthly summary from income and expense history before accepting traffic");
+            this.monthlySummaryService.rebuild(force);
+        }
+    }
+}
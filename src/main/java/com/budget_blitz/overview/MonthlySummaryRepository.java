@@ -0,0 +1,72 @@
+package com.budget_blitz.overview;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, MonthlySummaryId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_summary (user_id, summary_year, summary_month, category_id, total)
+            VALUES (:userId, :year, :month, :categoryId, :delta)
+            ON DUPLICATE KEY UPDATE total = total + :delta
+            """, nativeQuery = true)
+    int applyDelta(@Param("userId") Integer userId, @Param("year") Integer year, @Param("month") Integer month,
+                   @Param("categoryId") Integer categoryId, @Param("delta") BigDecimal delta);
+
+    @Query(value = """
+            SELECT 'INCOME' AS kind, NULL AS categoryName, NULLIF(SUM(ms.total), 0) AS total
+            FROM monthly_summary ms
+            WHERE ms.user_id =:userId
+            AND ms.summary_year BETWEEN :fromYear AND :toYear
+            AND (ms.summary_year > :fromYear OR ms.summary_month >= :fromMonth)
+            AND (ms.summary_year < :toYear OR ms.summary_month < :toMonth)
+            AND ms.category_id = 0
+            UNION ALL
+            SELECT 'EXPENSE' AS kind, c.name AS categoryName, SUM(ms.total) AS total
+            FROM monthly_summary ms
+            JOIN categories c
+            ON c.id = ms.category_id
+            WHERE ms.user_id =:userId
+            AND ms.summary_year BETWEEN :fromYear AND :toYear
+            AND (ms.summary_year > :fromYear OR ms.summary_month >= :fromMonth)
+            AND (ms.summary_year < :toYear OR ms.summary_month < :toMonth)
+            GROUP BY c.name
+            HAVING SUM(ms.total) <> 0
+            """, nativeQuery = true)
+    List<OverviewTotalRow> getOverviewTotals(@Param("userId") Integer userId,
+                                             @Param("fromYear") Integer fromYear, @Param("fromMonth") Integer fromMonth,
+                                             @Param("toYear") Integer toYear, @Param("toMonth") Integer toMonth);
+
+    @Query(value = "SELECT u.id FROM users u ORDER BY u.id", nativeQuery = true)
+    List<Integer> findAllUserIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_summary WHERE user_id =:userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_summary (user_id, summary_year, summary_month, category_id, total)
+            SELECT i.user_id, YEAR(i.date), MONTH(i.date), 0, SUM(i.amount)
+            FROM incomes i
+            WHERE i.user_id =:userId
+            GROUP BY i.user_id, YEAR(i.date), MONTH(i.date)
+            """, nativeQuery = true)
+    int backfillIncomes(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_summary (user_id, summary_year, summary_month, category_id, total)
+            SELECT e.user_id, YEAR(e.date), MONTH(e.date), e.category_id, SUM(e.amount)
+            FROM expenses e
+            WHERE e.user_id =:userId
+            GROUP BY e.user_id, YEAR(e.date), MONTH(e.date), e.category_id
+            """, nativeQuery = true)
+    int backfillExpenses(@Param("userId") Integer userId);
+}
@@ -0,0 +1,15 @@
+package com.budget_blitz.overview;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface MonthlySummaryService {
+
+    void applyIncomeDelta(Integer userId, LocalDate date, BigDecimal delta);
+
+    void applyExpenseDelta(Integer userId, Integer categoryId, LocalDate date, BigDecimal delta);
+
+    boolean isRebuilt();
+
+    boolean rebuild(boolean force);
+}
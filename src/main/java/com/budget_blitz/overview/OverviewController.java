@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -37,7 +38,7 @@ public class OverviewController {
     )
     @GetMapping
     public ResponseEntity<OverviewResponse> getOverview(
-            @Parameter(description = "Filter options, (month, year)") @ModelAttribute final OverviewFilterRequest filterRequest,
+            @Parameter(description = "Filter options, (month, year)") @Valid @ModelAttribute final OverviewFilterRequest filterRequest,
             @Parameter(hidden = true) final Authentication principal) {
         return ResponseEntity.ok(this.overviewService.getOverview(filterRequest, getUserId(principal)));
     }
@@ -4,6 +4,7 @@ import com.budget_blitz.overview.response.CategorySummaryResponse;
 import com.budget_blitz.overview.response.OverviewResponse;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.math.BigDecimal;
@@ -13,5 +14,6 @@ import java.util.List;
 public interface OverviewMapper {
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "partial", ignore = true)
     OverviewResponse toOverviewResponse(BigDecimal totalIncome, BigDecimal totalExpenses, BigDecimal savings, List<CategorySummaryResponse> categoryBreakdown);
 }
@@ -0,0 +1,29 @@
+package com.budget_blitz.overview;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.overview")
+@Component
+@Getter
+@Setter
+public class OverviewProperties {
+    private OverviewStrategy strategy = OverviewStrategy.ROLLUP;
+    private boolean rebuildOnStartup = false;
+    private Duration rebuildCheckInterval = Duration.ofSeconds(30);
+    private Duration rebuildStaleAfter = Duration.ofHours(2);
+    private Parallel parallel = new Parallel();
+
+    @Getter
+    @Setter
+    public static class Parallel {
+        private Duration timeout = Duration.ofSeconds(2);
+        private boolean allowPartial = true;
+        private int maxConcurrency = 8;
+        private int queueCapacity = 100;
+    }
+}
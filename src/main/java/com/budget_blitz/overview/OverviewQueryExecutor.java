@@ -0,0 +1,100 @@
+package com.budget_blitz.overview;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverviewQueryExecutor {
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final OverviewProperties overviewProperties;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        final OverviewProperties.Parallel parallel = this.overviewProperties.getParallel();
+        final int threads = Math.max(1, Math.min(parallel.getMaxConcurrency(), resolvePoolSize() / 2));
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(parallel.getQueueCapacity()),
+                new CustomizableThreadFactory("overview-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        log.info("Overview fan-out executor started with {} threads", threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    public <T> CompletableFuture<T> submit(final Supplier<T> query) {
+        final long deadline = System.nanoTime() + this.overviewProperties.getParallel().getTimeout().toNanos();
+        try {
+            return CompletableFuture.supplyAsync(() -> executeBefore(deadline, query), this.executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Overview executor is saturated, rejecting sub-query");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public boolean awaitAll(final Duration timeout, final CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Overview sub-query did not complete: {}", e.toString());
+        }
+        for (final CompletableFuture<?> future : futures) {
+            future.cancel(false);
+        }
+        return false;
+    }
+
+    public static <T> T resultOrNull(final CompletableFuture<T> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private <T> T executeBefore(final long deadline, final Supplier<T> query) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new CancellationException("Overview sub-query expired in the queue");
+        }
+
+        final TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1)));
+        return transaction.execute(status -> query.get());
+    }
+
+    private int resolvePoolSize() {
+        try {
+            if (this.dataSource.isWrapperFor(HikariDataSource.class)) {
+                return this.dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not resolve connection pool size: {}", e.getMessage());
+        }
+        return this.overviewProperties.getParallel().getMaxConcurrency() * 2;
+    }
+}
@@ -0,0 +1,8 @@
+package com.budget_blitz.overview;
+
+public enum OverviewStrategy {
+    SEQUENTIAL,
+    SINGLE_QUERY,
+    ROLLUP,
+    PARALLEL
+}
@@ -0,0 +1,13 @@
+package com.budget_blitz.overview;
+
+import java.math.BigDecimal;
+
+public interface OverviewTotalRow {
+
+    String INCOME = "INCOME";
+    String EXPENSE = "EXPENSE";
+
+    String getKind();
+    String getCategoryName();
+    BigDecimal getTotal();
+}
@@ -0,0 +1,141 @@
+package com.budget_blitz.overview.impl;
+
+import com.budget_blitz.overview.MonthlySummary;
+import com.budget_blitz.overview.MonthlySummaryRebuild;
+import com.budget_blitz.overview.MonthlySummaryRebuildRepository;
+import com.budget_blitz.overview.MonthlySummaryRepository;
+import com.budget_blitz.overview.MonthlySummaryService;
+import com.budget_blitz.overview.OverviewProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlySummaryServiceImpl implements MonthlySummaryService {
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final MonthlySummaryRepository monthlySummaryRepository;
+    private final MonthlySummaryRebuildRepository monthlySummaryRebuildRepository;
+    private final OverviewProperties overviewProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean rebuilt;
+    private volatile long nextRebuiltCheck = System.nanoTime();
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyIncomeDelta(final Integer userId, final LocalDate date, final BigDecimal delta) {
+        applyDelta(userId, MonthlySummary.INCOME_CATEGORY_ID, date, delta);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyExpenseDelta(final Integer userId, final Integer categoryId, final LocalDate date, final BigDecimal delta) {
+        applyDelta(userId, categoryId, date, delta);
+    }
+
+    @Override
+    public boolean isRebuilt() {
+        if (this.rebuilt) {
+            return true;
+        }
+        final long now = System.nanoTime();
+        if (now - this.nextRebuiltCheck < 0) {
+            return false;
+        }
+        this.nextRebuiltCheck = now + this.overviewProperties.getRebuildCheckInterval().toNanos();
+        this.rebuilt = this.monthlySummaryRebuildRepository.findById(MonthlySummaryRebuild.SINGLETON_ID)
+                .map(rebuild -> rebuild.getCompletedAt() != null)
+                .orElse(false);
+        return this.rebuilt;
+    }
+
+    @Override
+    public boolean rebuild(final boolean force) {
+        ensureRebuildMarker();
+        final LocalDateTime now = LocalDateTime.now();
+        final Integer claimed = this.transactionTemplate.execute(status -> this.monthlySummaryRebuildRepository.claim(
+                MonthlySummaryRebuild.SINGLETON_ID, now, now.minus(this.overviewProperties.getRebuildStaleAfter()), force));
+        if (claimed == null || claimed == 0) {
+            log.info("Skipping monthly summary rebuild: already completed or running on another instance");
+            return false;
+        }
+
+        LocalDateTime completedAt = null;
+        try {
+            int users = 0;
+            int rows = 0;
+            for (final Integer userId : this.monthlySummaryRepository.findAllUserIds()) {
+                rows += rebuildUser(userId);
+                users++;
+            }
+            completedAt = LocalDateTime.now();
+            this.rebuilt = true;
+            log.info("Rebuilt monthly summary for {} users with {} rows", users, rows);
+            return true;
+        } finally {
+            final LocalDateTime releasedAt = completedAt;
+            this.transactionTemplate.executeWithoutResult(status -> this.monthlySummaryRebuildRepository
+                    .release(MonthlySummaryRebuild.SINGLETON_ID, releasedAt));
+        }
+    }
+
+    private int rebuildUser(final Integer userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final Integer rows = this.transactionTemplate.execute(status -> {
+                    this.monthlySummaryRepository.deleteByUserId(userId);
+                    return this.monthlySummaryRepository.backfillIncomes(userId)
+                            + this.monthlySummaryRepository.backfillExpenses(userId);
+                });
+                return rows != null ? rows : 0;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_REBUILD_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Retrying monthly summary rebuild for user {} after lock conflict: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void ensureRebuildMarker() {
+        if (this.monthlySummaryRebuildRepository.existsById(MonthlySummaryRebuild.SINGLETON_ID)) {
+            return;
+        }
+        try {
+            this.monthlySummaryRebuildRepository.saveAndFlush(MonthlySummaryRebuild.builder()
+                    .id(MonthlySummaryRebuild.SINGLETON_ID)
+                    .running(false)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Monthly summary rebuild marker was created concurrently");
+        }
+    }
+
+    private void applyDelta(final Integer userId, final Integer categoryId, final LocalDate date, final BigDecimal delta) {
+        if (delta == null || delta.signum() == 0) {
+            return;
+        }
+        this.monthlySummaryRepository.applyDelta(userId, date.getYear(), date.getMonthValue(), categoryId, delta);
+    }
+}
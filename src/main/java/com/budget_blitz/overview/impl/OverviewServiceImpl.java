@@ -1,46 +1,138 @@
 package com.budget_blitz.overview.impl;
 
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
 import com.budget_blitz.expense.ExpenseRepository;
 import com.budget_blitz.income.IncomeRepository;
+import com.budget_blitz.overview.MonthlySummaryRepository;
+import com.budget_blitz.overview.MonthlySummaryService;
 import com.budget_blitz.overview.OverviewMapper;
+import com.budget_blitz.overview.OverviewProperties;
+import com.budget_blitz.overview.OverviewQueryExecutor;
 import com.budget_blitz.overview.OverviewService;
+import com.budget_blitz.overview.OverviewTotalRow;
 import com.budget_blitz.overview.request.OverviewFilterRequest;
 import com.budget_blitz.overview.response.CategorySummaryResponse;
 import com.budget_blitz.overview.response.OverviewResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
+@Timed("budget.service")
 @RequiredArgsConstructor
 @Slf4j
 public class OverviewServiceImpl implements OverviewService {
 
     private final IncomeRepository incomeRepository;
     private final ExpenseRepository expenseRepository;
+    private final MonthlySummaryRepository monthlySummaryRepository;
+    private final MonthlySummaryService monthlySummaryService;
     private final OverviewMapper overviewMapper;
+    private final OverviewProperties overviewProperties;
+    private final OverviewQueryExecutor overviewQueryExecutor;
     private static final BigDecimal ZERO = BigDecimal.ZERO;
 
     @Override
     public OverviewResponse getOverview(final OverviewFilterRequest filterRequest, final Integer userId) {
+        log.debug("Generating overview for user {}, month {}, year {}", userId,filterRequest.getMonth(), filterRequest.getYear());
 
-        final BigDecimal totalIncome = this.incomeRepository.getTotalIncome(userId, filterRequest.getMonth(), filterRequest.getYear());
-        final BigDecimal totalExpenses = this.expenseRepository.getTotalExpenses(userId, filterRequest.getMonth(), filterRequest.getYear());
+        final LocalDate fromDate = filterRequest.resolveFromDate();
+        final LocalDate toDate = filterRequest.resolveToDate();
 
-        final BigDecimal income = totalIncome != null ? totalIncome : ZERO;
-        final BigDecimal expense = totalExpenses != null ? totalExpenses : ZERO;
-        final BigDecimal savings = income.subtract(expense);
+        return switch (this.overviewProperties.getStrategy()) {
+            case SEQUENTIAL -> getSequentialOverview(userId, fromDate, toDate);
+            case SINGLE_QUERY -> getSingleQueryOverview(userId, fromDate, toDate);
+            case ROLLUP -> this.monthlySummaryService.isRebuilt()
+                    ? getRollupOverview(userId, fromDate, toDate)
+                    : getSingleQueryOverview(userId, fromDate, toDate);
+            case PARALLEL -> getParallelOverview(userId, fromDate, toDate);
+        };
+    }
+
+    private OverviewResponse getSequentialOverview(final Integer userId, final LocalDate fromDate, final LocalDate toDate) {
+        final BigDecimal totalIncome = this.incomeRepository.getTotalIncome(userId, fromDate, toDate);
+        final BigDecimal totalExpenses = this.expenseRepository.getTotalExpenses(userId, fromDate, toDate);
 
         final List<CategorySummaryResponse> categoryBreakdown = Optional.ofNullable(this.expenseRepository
-                        .getTotalExpensesByCategory(userId, filterRequest.getMonth(), filterRequest.getYear()))
+                        .getTotalExpensesByCategory(userId, fromDate, toDate))
                         .orElse(Collections.emptyList());
 
-        log.debug("Generating overview for user {}, month {}, year {}", userId,filterRequest.getMonth(), filterRequest.getYear());
+        return toOverviewResponse(totalIncome, totalExpenses, categoryBreakdown);
+    }
+
+    private OverviewResponse getParallelOverview(final Integer userId, final LocalDate fromDate, final LocalDate toDate) {
+        final OverviewProperties.Parallel parallel = this.overviewProperties.getParallel();
+
+        final CompletableFuture<BigDecimal> totalIncome = this.overviewQueryExecutor
+                .submit(() -> this.incomeRepository.getTotalIncome(userId, fromDate, toDate));
+        final CompletableFuture<BigDecimal> totalExpenses = this.overviewQueryExecutor
+                .submit(() -> this.expenseRepository.getTotalExpenses(userId, fromDate, toDate));
+        final CompletableFuture<List<CategorySummaryResponse>> categoryBreakdown = this.overviewQueryExecutor
+                .submit(() -> this.expenseRepository.getTotalExpensesByCategory(userId, fromDate, toDate));
+
+        final boolean completed = this.overviewQueryExecutor
+                .awaitAll(parallel.getTimeout(), totalIncome, totalExpenses, categoryBreakdown);
+        if (!completed && !parallel.isAllowPartial()) {
+            throw new BusinessException(ErrorCode.OVERVIEW_UNAVAILABLE);
+        }
+
+        final OverviewResponse response = toOverviewResponse(
+                OverviewQueryExecutor.resultOrNull(totalIncome),
+                OverviewQueryExecutor.resultOrNull(totalExpenses),
+                Optional.ofNullable(OverviewQueryExecutor.resultOrNull(categoryBreakdown)).orElse(Collections.emptyList()));
+        response.setPartial(!completed);
+        return response;
+    }
+
+    private OverviewResponse getSingleQueryOverview(final Integer userId, final LocalDate fromDate, final LocalDate toDate) {
+        final List<OverviewTotalRow> rows = this.expenseRepository
+                .getOverviewTotals(userId, fromDate, toDate);
+
+        return toOverviewResponse(rows);
+    }
+
+    private OverviewResponse getRollupOverview(final Integer userId, final LocalDate fromDate, final LocalDate toDate) {
+        final YearMonth from = YearMonth.from(fromDate);
+        final YearMonth to = YearMonth.from(toDate.minusDays(1)).plusMonths(1);
+        final List<OverviewTotalRow> rows = this.monthlySummaryRepository.getOverviewTotals(userId,
+                from.getYear(), from.getMonthValue(), to.getYear(), to.getMonthValue());
+
+        return toOverviewResponse(rows);
+    }
+
+    private OverviewResponse toOverviewResponse(final List<OverviewTotalRow> rows) {
+        BigDecimal totalIncome = null;
+        BigDecimal totalExpenses = null;
+        final List<CategorySummaryResponse> categoryBreakdown = new ArrayList<>();
+        for (final OverviewTotalRow row : rows) {
+            if (OverviewTotalRow.INCOME.equals(row.getKind())) {
+                totalIncome = row.getTotal();
+            } else {
+                totalExpenses = totalExpenses != null ? totalExpenses.add(row.getTotal()) : row.getTotal();
+                categoryBreakdown.add(new CategorySummaryResponse(row.getCategoryName(), row.getTotal()));
+            }
+        }
+
+        return toOverviewResponse(totalIncome, totalExpenses, categoryBreakdown);
+    }
+
+    private OverviewResponse toOverviewResponse(final BigDecimal totalIncome, final BigDecimal totalExpenses,
+                                                final List<CategorySummaryResponse> categoryBreakdown) {
+        final BigDecimal income = totalIncome != null ? totalIncome : ZERO;
+        final BigDecimal expense = totalExpenses != null ? totalExpenses : ZERO;
+        final BigDecimal savings = income.subtract(expense);
+
         return this.overviewMapper.toOverviewResponse(totalIncome, totalExpenses, savings, categoryBreakdown);
     }
-}
\ No newline at end of file
+}
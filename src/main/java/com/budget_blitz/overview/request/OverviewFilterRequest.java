@@ -1,8 +1,13 @@
 package com.budget_blitz.overview.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -11,9 +16,41 @@ import lombok.*;
 @Schema(description = "Filter options for financial overview")
 public class OverviewFilterRequest {
 
-    @Schema(description = "Filter by month (1–12)", example = "11")
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    @Schema(description = "Filter by month (1–12), within the current year when no year is given", example = "11")
     private Integer month;
 
-    @Schema(description = "Filter by year", example = "2025")
+    @Min(value = 1000, message = "Year must be between 1000 and 9998")
+    @Max(value = 9998, message = "Year must be between 1000 and 9998")
+    @Schema(description = "Filter by year (1000–9998)", example = "2025")
     private Integer year;
+
+    public LocalDate resolveFromDate() {
+        if (this.month != null) {
+            return resolveYearMonth().atDay(1);
+        }
+        if (this.year != null) {
+            return LocalDate.of(this.year, 1, 1);
+        }
+        return MIN_DATE;
+    }
+
+    public LocalDate resolveToDate() {
+        if (this.month != null) {
+            return resolveYearMonth().plusMonths(1).atDay(1);
+        }
+        if (this.year != null) {
+            return LocalDate.of(this.year + 1, 1, 1);
+        }
+        return MAX_DATE;
+    }
+
+    private YearMonth resolveYearMonth() {
+        final int resolvedYear = this.year != null ? this.year : LocalDate.now().getYear();
+        return YearMonth.of(resolvedYear, this.month);
+    }
 }
@@ -25,4 +25,7 @@ public class OverviewResponse {
 
     @Schema(description = "Breakdown of expenses by category")
     private List<CategorySummaryResponse> categoryBreakdown;
+
+    @Schema(description = "True when some totals could not be computed in time and are missing from the response", example = "false")
+    private boolean partial;
 }
\ No newline at end of file
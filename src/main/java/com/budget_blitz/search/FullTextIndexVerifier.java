@@ -0,0 +1,50 @@
+package com.budget_blitz.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextIndexVerifier implements SmartInitializingSingleton {
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "expenses", "ft_expense_description",
+            "incomes", "ft_income_description"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchProperties searchProperties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!this.searchProperties.isFullTextEnabled()) {
+            return;
+        }
+        final boolean missing = INDEXES.entrySet().stream()
+                .filter(entry -> !exists(entry.getKey(), entry.getValue()))
+                .peek(entry -> log.error("Full-text index {} is missing on {}", entry.getValue(), entry.getKey()))
+                .count() > 0;
+
+        if (missing) {
+            log.error("Full-text search disabled, falling back to LIKE search until the indexes are created");
+            this.searchProperties.setFullTextEnabled(false);
+        }
+    }
+
+    private boolean exists(final String table, final String index) {
+        final Integer existing = this.jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                AND table_name = ?
+                AND index_name = ?
+                """, Integer.class, table, index);
+        return existing != null && existing > 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.budget_blitz.search;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class FullTextSearch {
+
+    private static final String OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextSearch() {
+    }
+
+    public static String toBooleanQuery(final String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return Arrays.stream(keyword.replaceAll(OPERATORS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isBlank())
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    public static <T> Specification<T> matches(final String attribute, final String keyword, final boolean orderByRelevance) {
+        return (root, query, cb) -> {
+            final boolean ordered = orderByRelevance && query != null && !Long.class.equals(query.getResultType());
+            final String booleanQuery = toBooleanQuery(keyword);
+            if (booleanQuery.isEmpty()) {
+                if (ordered) {
+                    query.orderBy(cb.desc(root.get("createdDate")), cb.desc(root.get("id")));
+                }
+                return cb.conjunction();
+            }
+
+            final Expression<Double> relevance = cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                    root.get(attribute), cb.literal(booleanQuery));
+            if (ordered) {
+                query.orderBy(cb.desc(relevance), cb.desc(root.get("id")));
+            }
+            return cb.greaterThan(relevance, 0d);
+        };
+    }
+}
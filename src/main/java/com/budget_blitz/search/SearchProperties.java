@@ -0,0 +1,14 @@
+package com.budget_blitz.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.search")
+@Component
+@Getter
+@Setter
+public class SearchProperties {
+    private boolean fullTextEnabled = false;
+}
@@ -1,8 +1,11 @@
 package com.budget_blitz.security;
 
 import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.BusinessExceptionMetrics;
 import com.budget_blitz.handler.ErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,19 +17,23 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+    public static final String TIMER_NAME = "budget.jwt.filter";
+
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+    private final BusinessExceptionMetrics businessExceptionMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -42,29 +49,30 @@ public class JwtFilter extends OncePerRequestFilter {
 
             final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
             final String jwt;
-            final String username;
+            final VerifiedToken verifiedToken;
 
             if (authHeader == null || !authHeader.startsWith("Bearer ")) {
                 filterChain.doFilter(request, response);
                 return;
             }
             jwt = authHeader.substring(7);
-            username = this.jwtService.extractUsername(jwt);
+            verifiedToken = timed("parse", () -> this.jwtService.verify(jwt));
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                if (this.jwtService.isTokenValid(jwt)) {
-                    final UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+            if (verifiedToken.getSubject() != null && !verifiedToken.isExpired()
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                final UserDetails userDetails = timed("user_load",
+                        () -> this.principalCache.load(verifiedToken.getSubject()));
+                final UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
             filterChain.doFilter(request, response);
         } catch (BusinessException ex) {
+            this.businessExceptionMetrics.record(ex.getErrorCode());
             response.setStatus(HttpStatus.FORBIDDEN.value());
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
@@ -77,4 +85,16 @@ public class JwtFilter extends OncePerRequestFilter {
             new ObjectMapper().writeValue(response.getWriter(), body);
         }
     }
+
+    private <T> T timed(final String phase, final Supplier<T> action) {
+        final Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "failure";
+        try {
+            final T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(this.meterRegistry.timer(TIMER_NAME, "phase", phase, "outcome", outcome));
+        }
+    }
 }
@@ -14,4 +14,15 @@ public class JwtProperties {
     private String publicKey;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    private JwtAlgorithm algorithm = JwtAlgorithm.RS256;
+    private String previousPublicKey;
+    private JwtAlgorithm previousAlgorithm = JwtAlgorithm.RS256;
+    private VerifiedCache verifiedCache = new VerifiedCache();
+
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+        private boolean enabled = false;
+        private long maximumSize = 10_000;
+    }
 }
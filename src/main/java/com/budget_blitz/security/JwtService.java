@@ -3,22 +3,30 @@ package com.budget_blitz.security;
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import java.security.Key;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -28,17 +36,33 @@ public class JwtService {
 
     private final static String tokenType = "TOKEN_TYPE";
     private final JwtProperties jwtProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
     private JwtParser jwtParser;
 
-    private PublicKey rsaPublicKey;
-    private PrivateKey rsaPrivateKey;
+    private JwtAlgorithm signingAlgorithm;
+    private PrivateKey signingKey;
+    private String signingKeyId;
+    private final List<VerificationKey> verificationKeys = new ArrayList<>();
 
 
     @PostConstruct
-    private void init() {
-        rsaPublicKey = getPublicKey(jwtProperties.getPublicKey());
-        rsaPrivateKey = getPrivateKey(jwtProperties.getPrivateKey());
-        jwtParser = Jwts.parser().verifyWith(rsaPublicKey).build();
+    void init() {
+        signingAlgorithm = jwtProperties.getAlgorithm();
+        signingKey = getPrivateKey(jwtProperties.getPrivateKey(), signingAlgorithm);
+
+        final PublicKey publicKey = getPublicKey(jwtProperties.getPublicKey(), signingAlgorithm);
+        signingKeyId = keyId(publicKey);
+        verificationKeys.add(new VerificationKey(signingKeyId, signingAlgorithm, publicKey,
+                Jwts.parser().verifyWith(publicKey).build()));
+
+        final String previousPublicKey = jwtProperties.getPreviousPublicKey();
+        if (previousPublicKey != null && !previousPublicKey.isBlank()) {
+            final PublicKey previousKey = getPublicKey(previousPublicKey, jwtProperties.getPreviousAlgorithm());
+            verificationKeys.add(new VerificationKey(keyId(previousKey), jwtProperties.getPreviousAlgorithm(), previousKey,
+                    Jwts.parser().verifyWith(previousKey).build()));
+        }
+
+        jwtParser = Jwts.parser().keyLocator(new VerificationKeyLocator()).build();
     }
 
     public String generateAccessToken(final String username) {
@@ -53,24 +77,34 @@ public class JwtService {
 
     private String buildToken(final String username, final Map<String, Object> claims, final long expiration) {
         return Jwts.builder()
+                .header().keyId(signingKeyId).and()
                 .claims(claims)
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(rsaPrivateKey)
+                .signWith(signingKey, signingAlgorithm.getSignatureAlgorithm())
                 .compact();
     }
 
-    public String extractUsername(final String token) {
-        return extractClaims(token).getSubject();
+    public VerifiedToken verify(final String token) {
+        return this.verifiedTokenCache.get(token, this::parse);
     }
 
-    public boolean isTokenValid(final String token) {
-        return !isTokenExpired(token);
+    private VerifiedToken parse(final String token) {
+        final Claims claims = extractClaims(token);
+        return VerifiedToken.builder()
+                .subject(claims.getSubject())
+                .type(claims.get(tokenType, String.class))
+                .expiration(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                .build();
     }
 
-    private boolean isTokenExpired(final String token) {
-        return extractClaims(token).getExpiration().before(new Date());
+    public String extractUsername(final String token) {
+        return verify(token).getSubject();
+    }
+
+    public boolean isTokenValid(final String token) {
+        return !verify(token).isExpired();
     }
 
     private Claims extractClaims(final String token) {
@@ -78,26 +112,47 @@ public class JwtService {
             return this.jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
+        } catch (MissingKeyIdException e) {
+            return extractLegacyClaims(token, e.getAlgorithm());
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Failed to parse JWT: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
         }
     }
 
+    private Claims extractLegacyClaims(final String token, final String algorithm) {
+        for (final VerificationKey key : verificationKeys) {
+            if (!key.algorithm().getSignatureAlgorithm().getId().equals(algorithm)) {
+                continue;
+            }
+            try {
+                return key.parser()
+                        .parseSignedClaims(token)
+                        .getPayload();
+            } catch (SignatureException e) {
+                log.debug("JWT without key id did not verify with key {}", key.keyId());
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("Failed to parse JWT: {}", e.getMessage());
+                throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
+            }
+        }
+        log.warn("Failed to parse JWT: no {} verification key matches a token without key id", algorithm);
+        throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN);
+    }
+
     public String refreshAccessToken(final String refreshToken) {
-        final Claims claims = extractClaims(refreshToken);
-        if (!"REFRESH_TOKEN".equals(claims.get(tokenType))) {
+        final VerifiedToken verifiedToken = verify(refreshToken);
+        if (!"REFRESH_TOKEN".equals(verifiedToken.getType())) {
             throw new BusinessException(ErrorCode.INVALID_JWT_TOKEN_TYPE);
         }
-        if (isTokenExpired(refreshToken)) {
+        if (verifiedToken.isExpired()) {
             throw new BusinessException(ErrorCode.EXPIRED_JWT_TOKEN);
         }
 
-        final String username = claims.getSubject();
-        return generateAccessToken(username);
+        return generateAccessToken(verifiedToken.getSubject());
     }
 
-    private PublicKey getPublicKey(final String pemContent) {
+    private PublicKey getPublicKey(final String pemContent, final JwtAlgorithm algorithm) {
         if (pemContent == null || pemContent.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_PUBLIC_KEY);
         }
@@ -106,7 +161,7 @@ public class JwtService {
             final String key = pemContent.replaceAll("\\s+", "");
             final byte[] keyByte = Base64.getDecoder().decode(key);
             final X509EncodedKeySpec spec = new X509EncodedKeySpec(keyByte);
-            return KeyFactory.getInstance("RSA").generatePublic(spec);
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm()).generatePublic(spec);
 
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
@@ -115,7 +170,7 @@ public class JwtService {
         }
     }
 
-    private PrivateKey getPrivateKey(final String pemContent) {
+    private PrivateKey getPrivateKey(final String pemContent, final JwtAlgorithm algorithm) {
         if (pemContent == null || pemContent.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_PRIVATE_KEY);
         }
@@ -124,12 +179,55 @@ public class JwtService {
             final String key = pemContent.replaceAll("\\s+", "");
             final byte[] keyByte = Base64.getDecoder().decode(key);
             final PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(keyByte);
-            return KeyFactory.getInstance("RSA").generatePrivate(spec);
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm()).generatePrivate(spec);
 
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
         } catch (IllegalArgumentException e) {
-            throw new BusinessException(ErrorCode.INVALID_PUBLIC_KEY);
+            throw new BusinessException(ErrorCode.INVALID_PRIVATE_KEY);
+        }
+    }
+
+    private String keyId(final PublicKey publicKey) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
+        }
+    }
+
+    private record VerificationKey(String keyId, JwtAlgorithm algorithm, PublicKey publicKey, JwtParser parser) {
+    }
+
+    private static final class MissingKeyIdException extends JwtException {
+
+        private final String algorithm;
+
+        private MissingKeyIdException(final String algorithm) {
+            super("JWT has no key id");
+            this.algorithm = algorithm;
+        }
+
+        private String getAlgorithm() {
+            return this.algorithm;
+        }
+    }
+
+    private final class VerificationKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(final JwsHeader header) {
+            final String keyId = header.getKeyId();
+            if (keyId == null) {
+                throw new MissingKeyIdException(header.getAlgorithm());
+            }
+            for (final VerificationKey key : verificationKeys) {
+                if (keyId.equals(key.keyId())) {
+                    return key.publicKey();
+                }
+            }
+            throw new UnsupportedJwtException("Unknown JWT key id " + keyId);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.budget_blitz.security;
+
+import com.budget_blitz.users.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "principals";
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#email", sync = true)
+    public UserDetails load(final String email) {
+        return this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#email")
+    public void evict(final String email) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.budget_blitz.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,6 +14,8 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -19,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final Environment environment;
 
     private final static String[] PUBLIC_URLS = {
             "/auth/login",
@@ -39,7 +45,9 @@ public class SecurityConfig {
             "/swagger-ui/**",
             "webjars/**",
             "/swagger-ui.html",
-            "/swagger-ui/index.html"
+            "/swagger-ui/index.html",
+            "/actuator/health",
+            "/actuator/health/**"
     };
 
     @Bean
@@ -49,6 +57,10 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth ->
                 auth.requestMatchers(PUBLIC_URLS)
+                        .permitAll()
+                        .requestMatchers(prometheusOnManagementPort())
+                        .permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
                         .permitAll()
                         .anyRequest()
                         .authenticated())
@@ -56,4 +68,14 @@ public class SecurityConfig {
                  .addFilterBefore(this.jwtFilter, UsernamePasswordAuthenticationFilter.class)
                  .build();
     }
+
+    private RequestMatcher prometheusOnManagementPort() {
+        final Integer managementPort = this.environment.getProperty("management.server.port", Integer.class);
+        final Integer serverPort = this.environment.getProperty("server.port", Integer.class);
+        if (managementPort == null || managementPort <= 0 || managementPort.equals(serverPort)) {
+            return request -> false;
+        }
+        return new AndRequestMatcher(EndpointRequest.to("prometheus"),
+                request -> request.getLocalPort() == managementPort);
+    }
 }
@@ -0,0 +1,45 @@
+package com.budget_blitz.security;
+
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Service
+public class TokenDigestService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final String secret;
+    private SecretKeySpec secretKey;
+
+    public TokenDigestService(@Value("${app.security.token-digest-secret}") final String secret) {
+        this.secret = secret;
+    }
+
+    @PostConstruct
+    void init() {
+        if (this.secret == null || this.secret.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN_DIGEST_SECRET);
+        }
+        this.secretKey = new SecretKeySpec(this.secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String digest(final String code) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.secretKey);
+            return HexFormat.of().formatHex(mac.doFinal(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERR);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.budget_blitz.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class VerifiedToken {
+
+    private final String subject;
+    private final String type;
+    private final Instant expiration;
+
+    public boolean isExpired() {
+        return this.expiration == null || this.expiration.isBefore(Instant.now());
+    }
+}
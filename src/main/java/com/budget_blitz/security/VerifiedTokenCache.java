@@ -0,0 +1,54 @@
+package com.budget_blitz.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(final JwtProperties jwtProperties) {
+        final JwtProperties.VerifiedCache properties = jwtProperties.getVerifiedCache();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfter(Expiry.creating((String key, VerifiedToken token) -> timeToLive(token)))
+                        .build()
+                : null;
+    }
+
+    public VerifiedToken get(final String token, final Function<String, VerifiedToken> verifier) {
+        if (this.cache == null) {
+            return verifier.apply(token);
+        }
+        return this.cache.get(hash(token), key -> verifier.apply(token));
+    }
+
+    private static Duration timeToLive(final VerifiedToken token) {
+        if (token.getExpiration() == null) {
+            return Duration.ZERO;
+        }
+        final Duration remaining = Duration.between(Instant.now(), token.getExpiration());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(final String token) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
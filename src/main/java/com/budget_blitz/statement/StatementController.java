@@ -0,0 +1,59 @@
+package com.budget_blitz.statement;
+
+import com.budget_blitz.statement.response.StatementImportResponse;
+import com.budget_blitz.users.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("statements")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+@Tag(name = "Statement Import", description = "Endpoints for importing bank statements as expenses and incomes")
+public class StatementController {
+
+    private final StatementImportService statementImportService;
+
+    @Operation(
+            summary = "Import a bank statement",
+            description = "Streams a CSV or OFX statement and creates an expense for every negative amount and an income for every positive amount. " +
+                    "CSV files need a header with date (yyyy-MM-dd) and amount columns, plus optional description and category columns. " +
+                    "Rows are committed in chunks; rejected rows are reported with their line number.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Statement processed",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = StatementImportResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "File could not be read", content = @Content),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportResponse> importStatement(
+            @Parameter(description = "Statement file (.csv or .ofx)")
+            @RequestPart("file") final MultipartFile file,
+
+            @Parameter(description = "File format; detected from the file extension when omitted", example = "CSV")
+            @RequestParam(name = "format", required = false) final StatementFormat format,
+
+            @Parameter(description = "Category name used for expenses without a category column", example = "Bank")
+            @RequestParam(name = "defaultCategory", required = false) final String defaultCategory,
+
+            @Parameter(hidden = true) final Authentication principal) {
+        return ResponseEntity.ok(this.statementImportService.importStatement(file, format, defaultCategory, getUserId(principal)));
+    }
+
+    private Integer getUserId(final Authentication principal) {
+        return ((User) principal.getPrincipal()).getId();
+    }
+}
@@ -0,0 +1,18 @@
+package com.budget_blitz.statement;
+
+import java.util.Locale;
+
+public enum StatementFormat {
+    CSV,
+    OFX;
+
+    public static StatementFormat fromFilename(final String filename) {
+        if (filename != null) {
+            final String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".ofx") || lower.endsWith(".qfx")) {
+                return OFX;
+            }
+        }
+        return CSV;
+    }
+}
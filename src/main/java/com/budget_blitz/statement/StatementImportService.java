@@ -0,0 +1,10 @@
+package com.budget_blitz.statement;
+
+import com.budget_blitz.statement.response.StatementImportResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface StatementImportService {
+
+    StatementImportResponse importStatement(final MultipartFile file, final StatementFormat format,
+                                            final String defaultCategory, final Integer userId);
+}
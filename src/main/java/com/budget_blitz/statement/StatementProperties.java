@@ -0,0 +1,15 @@
+package com.budget_blitz.statement;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "app.statement")
+@Component
+@Getter
+@Setter
+public class StatementProperties {
+    private int chunkSize = 500;
+    private int maxReportedErrors = 1000;
+}
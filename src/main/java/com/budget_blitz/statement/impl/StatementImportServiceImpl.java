@@ -0,0 +1,235 @@
+package com.budget_blitz.statement.impl;
+
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import com.budget_blitz.expense.ExpenseService;
+import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
+import com.budget_blitz.income.IncomeService;
+import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.BatchAddIncomeRequest;
+import com.budget_blitz.statement.StatementFormat;
+import com.budget_blitz.statement.StatementImportService;
+import com.budget_blitz.statement.StatementProperties;
+import com.budget_blitz.statement.parser.StatementParser;
+import com.budget_blitz.statement.parser.StatementRow;
+import com.budget_blitz.statement.parser.StatementRowHandler;
+import com.budget_blitz.statement.response.RowErrorResponse;
+import com.budget_blitz.statement.response.StatementImportResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementImportServiceImpl implements StatementImportService {
+
+    private final List<StatementParser> parsers;
+    private final CategoryRepository categoryRepository;
+    private final ExpenseService expenseService;
+    private final IncomeService incomeService;
+    private final StatementProperties statementProperties;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    @Override
+    public StatementImportResponse importStatement(final MultipartFile file, final StatementFormat format,
+                                                   final String defaultCategory, final Integer userId) {
+        final StatementFormat resolvedFormat = format != null ? format : StatementFormat.fromFilename(file.getOriginalFilename());
+        final StatementParser parser = this.parsers.stream()
+                .filter(candidate -> candidate.getFormat() == resolvedFormat)
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.STATEMENT_READ_FAILED));
+
+        final ImportSession session = new ImportSession(userId, defaultCategory);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            parser.parse(reader, session);
+        } catch (IOException e) {
+            log.warn("Failed to read statement for user={}: {}", userId, e.getMessage());
+            throw new BusinessException(ErrorCode.STATEMENT_READ_FAILED);
+        }
+        session.flushExpenses();
+        session.flushIncomes();
+
+        log.info("Imported statement for user={}: {} rows, {} expenses, {} incomes, {} duplicates, {} failed",
+                userId, session.totalRows, session.importedExpenses, session.importedIncomes,
+                session.skippedDuplicates, session.failedRows);
+
+        return StatementImportResponse.builder()
+                .totalRows(session.totalRows)
+                .importedExpenses(session.importedExpenses)
+                .importedIncomes(session.importedIncomes)
+                .skippedDuplicates(session.skippedDuplicates)
+                .failedRows(session.failedRows)
+                .errors(session.errors)
+                .build();
+    }
+
+    private final class ImportSession implements StatementRowHandler {
+
+        private final Integer userId;
+        private final String defaultCategory;
+        private final Map<String, Optional<Integer>> categoryCache = new HashMap<>();
+        private final List<AddExpenseRequest> expenses = new ArrayList<>();
+        private final List<Long> expenseLines = new ArrayList<>();
+        private final List<AddIncomeRequest> incomes = new ArrayList<>();
+        private final List<Long> incomeLines = new ArrayList<>();
+        private final List<RowErrorResponse> errors = new ArrayList<>();
+
+        private long totalRows;
+        private long importedExpenses;
+        private long importedIncomes;
+        private long skippedDuplicates;
+        private long failedRows;
+
+        private ImportSession(final Integer userId, final String defaultCategory) {
+            this.userId = userId;
+            this.defaultCategory = defaultCategory;
+        }
+
+        @Override
+        public void onRow(final StatementRow row) {
+            this.totalRows++;
+            if (row.getAmount().signum() == 0) {
+                onError(row.getLineNumber(), "Amount must not be zero");
+            } else if (row.getAmount().signum() < 0) {
+                addExpense(row);
+            } else {
+                addIncome(row);
+            }
+        }
+
+        @Override
+        public void onError(final long lineNumber, final String message) {
+            this.failedRows++;
+            if (this.errors.size() < statementProperties.getMaxReportedErrors()) {
+                this.errors.add(new RowErrorResponse(lineNumber, message));
+            }
+        }
+
+        private void addExpense(final StatementRow row) {
+            final String categoryName = row.getCategory() != null ? row.getCategory() : this.defaultCategory;
+            if (categoryName == null) {
+                onError(row.getLineNumber(), "Category is required for expenses");
+                return;
+            }
+
+            final Optional<Integer> categoryId = this.categoryCache.computeIfAbsent(
+                    categoryName.toLowerCase(Locale.ROOT), name -> resolveCategory(categoryName));
+            if (categoryId.isEmpty()) {
+                onError(row.getLineNumber(), "Category '" + categoryName + "' not found");
+                return;
+            }
+
+            final AddExpenseRequest request = AddExpenseRequest.builder()
+                    .amount(row.getAmount().negate())
+                    .date(row.getDate())
+                    .description(row.getDescription())
+                    .categoryId(categoryId.get())
+                    .build();
+            if (isValid(row.getLineNumber(), request)) {
+                this.expenses.add(request);
+                this.expenseLines.add(row.getLineNumber());
+                if (this.expenses.size() >= statementProperties.getChunkSize()) {
+                    flushExpenses();
+                }
+            }
+        }
+
+        private void addIncome(final StatementRow row) {
+            final AddIncomeRequest request = AddIncomeRequest.builder()
+                    .amount(row.getAmount())
+                    .date(row.getDate())
+                    .description(row.getDescription())
+                    .build();
+            if (isValid(row.getLineNumber(), request)) {
+                this.incomes.add(request);
+                this.incomeLines.add(row.getLineNumber());
+                if (this.incomes.size() >= statementProperties.getChunkSize()) {
+                    flushIncomes();
+                }
+            }
+        }
+
+        private void flushExpenses() {
+            if (this.expenses.isEmpty()) {
+                return;
+            }
+            try {
+                final BatchCreateResponse<?> response = expenseService.addExpenses(
+                        new BatchAddExpenseRequest(new ArrayList<>(this.expenses)), this.userId);
+                this.importedExpenses += response.getCreated().size();
+                this.skippedDuplicates += response.getSkippedDuplicates();
+            } catch (RuntimeException e) {
+                onChunkError(this.expenseLines, e);
+            } finally {
+                this.expenses.clear();
+                this.expenseLines.clear();
+                entityManager.clear();
+            }
+        }
+
+        private void flushIncomes() {
+            if (this.incomes.isEmpty()) {
+                return;
+            }
+            try {
+                final BatchCreateResponse<?> response = incomeService.addIncomes(
+                        new BatchAddIncomeRequest(new ArrayList<>(this.incomes)), this.userId);
+                this.importedIncomes += response.getCreated().size();
+                this.skippedDuplicates += response.getSkippedDuplicates();
+            } catch (RuntimeException e) {
+                onChunkError(this.incomeLines, e);
+            } finally {
+                this.incomes.clear();
+                this.incomeLines.clear();
+                entityManager.clear();
+            }
+        }
+
+        private void onChunkError(final List<Long> lines, final RuntimeException e) {
+            final String message;
+            if (e instanceof BusinessException || e instanceof EntityNotFoundException) {
+                message = e.getMessage();
+            } else {
+                log.warn("Failed to import statement chunk of {} rows for user={}", lines.size(), this.userId, e);
+                message = "Row could not be saved";
+            }
+            lines.forEach(line -> onError(line, message));
+        }
+
+        private Optional<Integer> resolveCategory(final String name) {
+            return categoryRepository.findByNameAndUserIdIgnoreCase(name, this.userId).stream()
+                    .map(Category::getId)
+                    .findFirst();
+        }
+
+        private <T> boolean isValid(final long lineNumber, final T request) {
+            final Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                return true;
+            }
+            onError(lineNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return false;
+        }
+    }
+}
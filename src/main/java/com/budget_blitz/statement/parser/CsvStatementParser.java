@@ -0,0 +1,91 @@
+package com.budget_blitz.statement.parser;
+
+import com.budget_blitz.common.CsvUtils;
+import com.budget_blitz.statement.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+public class CsvStatementParser implements StatementParser {
+
+    private static final String BOM = "\uFEFF";
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public void parse(final BufferedReader reader, final StatementRowHandler handler) throws IOException {
+        final String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+
+        final List<String> header = CsvUtils.parseLine(headerLine.replace(BOM, "")).stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+        final int dateColumn = header.indexOf("date");
+        final int amountColumn = header.indexOf("amount");
+        final int descriptionColumn = header.indexOf("description");
+        final int categoryColumn = header.indexOf("category");
+        if (dateColumn < 0 || amountColumn < 0) {
+            handler.onError(1, "Header must contain 'date' and 'amount' columns");
+            return;
+        }
+
+        long nextLine = 2;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final long lineNumber = nextLine++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            final StringBuilder record = new StringBuilder(line);
+            while (CsvUtils.hasOpenQuote(record) && record.length() <= MAX_RECORD_LENGTH
+                    && (line = reader.readLine()) != null) {
+                nextLine++;
+                record.append('\n').append(line);
+            }
+            if (CsvUtils.hasOpenQuote(record)) {
+                handler.onError(lineNumber, "Quoted field is not closed");
+                return;
+            }
+
+            final List<String> fields = CsvUtils.parseLine(record.toString());
+            final String date = field(fields, dateColumn);
+            final String amount = field(fields, amountColumn);
+            if (date == null || amount == null) {
+                handler.onError(lineNumber, "Missing date or amount");
+                continue;
+            }
+            try {
+                handler.onRow(new StatementRow(
+                        lineNumber,
+                        LocalDate.parse(date),
+                        new BigDecimal(amount),
+                        field(fields, descriptionColumn),
+                        field(fields, categoryColumn)
+                ));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                handler.onError(lineNumber, "Invalid date or amount");
+            }
+        }
+    }
+
+    private static String field(final List<String> fields, final int column) {
+        if (column < 0 || column >= fields.size() || fields.get(column).isEmpty()) {
+            return null;
+        }
+        return CsvUtils.stripFormulaGuard(fields.get(column));
+    }
+}
@@ -0,0 +1,139 @@
+package com.budget_blitz.statement.parser;
+
+import com.budget_blitz.statement.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int OFX_DATE_LENGTH = 8;
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(final BufferedReader reader, final StatementRowHandler handler) throws IOException {
+        final Transaction transaction = new Transaction(handler);
+        final StringBuilder tag = new StringBuilder();
+        final StringBuilder text = new StringBuilder();
+        long lineNumber = 1;
+        long tagLine = 1;
+        boolean inTag = false;
+        String pendingTag = null;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                lineNumber++;
+            }
+            if (inTag) {
+                if (c == '>') {
+                    inTag = false;
+                    pendingTag = tagName(tag);
+                    transaction.onTag(pendingTag, tagLine);
+                    text.setLength(0);
+                } else {
+                    tag.append((char) c);
+                }
+            } else if (c == '<') {
+                transaction.onValue(pendingTag, text);
+                pendingTag = null;
+                inTag = true;
+                tagLine = lineNumber;
+                tag.setLength(0);
+            } else {
+                text.append((char) c);
+            }
+        }
+        transaction.onValue(pendingTag, text);
+    }
+
+    private static String tagName(final CharSequence tag) {
+        final String trimmed = tag.toString().trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Transaction {
+
+        private final StatementRowHandler handler;
+        private boolean open;
+        private long lineNumber;
+        private String posted;
+        private String amount;
+        private String name;
+        private String memo;
+
+        private Transaction(final StatementRowHandler handler) {
+            this.handler = handler;
+        }
+
+        private void onTag(final String tag, final long tagLine) {
+            switch (tag) {
+                case "STMTTRN" -> {
+                    this.open = true;
+                    this.lineNumber = tagLine;
+                    this.posted = this.amount = this.name = this.memo = null;
+                }
+                case "/STMTTRN" -> {
+                    if (this.open) {
+                        emit();
+                    }
+                    this.open = false;
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void onValue(final String tag, final CharSequence text) {
+            if (tag == null || !this.open) {
+                return;
+            }
+            final String value = text.toString().trim();
+            if (value.isEmpty()) {
+                return;
+            }
+            switch (tag) {
+                case "DTPOSTED" -> this.posted = value;
+                case "TRNAMT" -> this.amount = value;
+                case "NAME" -> this.name = value;
+                case "MEMO" -> this.memo = value;
+                default -> {
+                }
+            }
+        }
+
+        private void emit() {
+            if (this.posted == null || this.posted.length() < OFX_DATE_LENGTH || this.amount == null) {
+                this.handler.onError(this.lineNumber, "Transaction is missing DTPOSTED or TRNAMT");
+                return;
+            }
+            try {
+                this.handler.onRow(new StatementRow(
+                        this.lineNumber,
+                        LocalDate.parse(this.posted.substring(0, OFX_DATE_LENGTH), OFX_DATE),
+                        new BigDecimal(this.amount),
+                        this.name != null ? this.name : this.memo,
+                        null
+                ));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                this.handler.onError(this.lineNumber, "Transaction has an invalid DTPOSTED or TRNAMT");
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.budget_blitz.statement.parser;
+
+import com.budget_blitz.statement.StatementFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public interface StatementParser {
+
+    StatementFormat getFormat();
+
+    void parse(BufferedReader reader, StatementRowHandler handler) throws IOException;
+}
@@ -0,0 +1,18 @@
+package com.budget_blitz.statement.parser;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class StatementRow {
+
+    private final long lineNumber;
+    private final LocalDate date;
+    private final BigDecimal amount;
+    private final String description;
+    private final String category;
+}
@@ -0,0 +1,8 @@
+package com.budget_blitz.statement.parser;
+
+public interface StatementRowHandler {
+
+    void onRow(StatementRow row);
+
+    void onError(long lineNumber, String message);
+}
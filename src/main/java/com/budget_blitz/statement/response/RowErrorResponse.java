@@ -0,0 +1,19 @@
+package com.budget_blitz.statement.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "A statement row that could not be imported")
+public class RowErrorResponse {
+
+    @Schema(description = "Line number in the uploaded file", example = "42")
+    private long line;
+
+    @Schema(description = "Reason the row was rejected", example = "Category 'Rent' not found")
+    private String message;
+}
@@ -0,0 +1,33 @@
+package com.budget_blitz.statement.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Summary of a bank statement import")
+public class StatementImportResponse {
+
+    @Schema(description = "Number of transaction rows read from the file", example = "1200")
+    private long totalRows;
+
+    @Schema(description = "Number of expenses created", example = "1100")
+    private long importedExpenses;
+
+    @Schema(description = "Number of incomes created", example = "80")
+    private long importedIncomes;
+
+    @Schema(description = "Number of rows skipped because an identical record already exists", example = "15")
+    private long skippedDuplicates;
+
+    @Schema(description = "Number of rows rejected", example = "5")
+    private long failedRows;
+
+    @Schema(description = "Rejected rows, capped at the configured maximum")
+    private List<RowErrorResponse> errors;
+}
@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens",
+        indexes = {
+                @Index(name = "idx_token_code_digest", columnList = "code_digest, created_at")
+        }
+)
 public class Token {
 
     @Id
@@ -19,6 +23,8 @@ public class Token {
     private Integer id;
     @Column(name = "token", unique = true)
     private String token;
+    @Column(name = "code_digest", length = 64)
+    private String codeDigest;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     @Column(name = "expired_at")
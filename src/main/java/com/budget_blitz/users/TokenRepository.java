@@ -2,8 +2,10 @@ package com.budget_blitz.users;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Integer> {
     Optional<Token> findByToken(final String token);
+    List<Token> findTop5ByCodeDigestOrderByCreatedAtDesc(final String codeDigest);
 }
@@ -2,6 +2,7 @@ package com.budget_blitz.users.impl;
 
 import com.budget_blitz.exception.BusinessException;
 import com.budget_blitz.exception.ErrorCode;
+import com.budget_blitz.security.PrincipalCache;
 import com.budget_blitz.users.*;
 import com.budget_blitz.users.request.ChangePasswordRequest;
 import com.budget_blitz.users.request.UpdateProfileInfoRequest;
@@ -19,6 +20,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(final String userEmail) throws UsernameNotFoundException {
@@ -40,6 +42,7 @@ public class UserServiceImpl implements UserService {
 
         this.userMapper.updateProfileInfo(request, user);
         this.userRepository.save(user);
+        this.principalCache.evict(user.getEmail());
         return userMapper.toProfileInfoResponse(user);
     }
 
@@ -56,6 +59,7 @@ public class UserServiceImpl implements UserService {
         final String encodedPassword = this.passwordEncoder.encode(request.getNewPassword());
         user.setPassword(encodedPassword);
         this.userRepository.save(user);
+        this.principalCache.evict(user.getEmail());
     }
 
     @Override
@@ -69,6 +73,7 @@ public class UserServiceImpl implements UserService {
 
         user.setEnabled(false);
         this.userRepository.save(user);
+        this.principalCache.evict(user.getEmail());
     }
 
     @Override
@@ -82,6 +87,7 @@ public class UserServiceImpl implements UserService {
 
         user.setEnabled(true);
         this.userRepository.save(user);
+        this.principalCache.evict(user.getEmail());
     }
 
     @Override
@@ -0,0 +1,192 @@
+package com.budget_blitz.validation.email;
+
+import java.util.*;
+
+public final class DisposableDomainMatcher {
+
+    static final String ANY_TOP_LEVEL = "*";
+    private static final int ROOT = 0;
+
+    private final String[] labels;
+    private final int[] childOffsets;
+    private final int[] childLabels;
+    private final int[] childNodes;
+    private final BitSet terminals;
+    private final int anyTopLevelNode;
+    private final int size;
+
+    private DisposableDomainMatcher(final String[] labels, final int[] childOffsets, final int[] childLabels,
+                                    final int[] childNodes, final BitSet terminals, final int size) {
+        this.labels = labels;
+        this.childOffsets = childOffsets;
+        this.childLabels = childLabels;
+        this.childNodes = childNodes;
+        this.terminals = terminals;
+        this.size = size;
+        this.anyTopLevelNode = findChild(ROOT, ANY_TOP_LEVEL, 0, ANY_TOP_LEVEL.length());
+    }
+
+    public static DisposableDomainMatcher of(final Iterable<String> domains) {
+        final BuildNode root = new BuildNode();
+        final SortedSet<String> labelSet = new TreeSet<>();
+        int size = 0;
+
+        for (final String entry : domains) {
+            final String domain = normalize(entry);
+            if (domain == null) {
+                continue;
+            }
+            final String[] parts = domain.split("\\.");
+            BuildNode node = root;
+            if (parts.length == 1) {
+                node = node.child(ANY_TOP_LEVEL);
+                labelSet.add(ANY_TOP_LEVEL);
+            }
+            for (int i = parts.length - 1; i >= 0; i--) {
+                node = node.child(parts[i]);
+                labelSet.add(parts[i]);
+            }
+            if (!node.terminal) {
+                node.terminal = true;
+                size++;
+            }
+        }
+        return freeze(root, labelSet.toArray(String[]::new), size);
+    }
+
+    public static DisposableDomainMatcher empty() {
+        return of(List.of());
+    }
+
+    public boolean matches(final String domain) {
+        if (domain == null || domain.isEmpty()) {
+            return false;
+        }
+        int end = domain.length();
+        if (domain.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (walk(ROOT, domain, end)) {
+            return true;
+        }
+        if (this.anyTopLevelNode < 0) {
+            return false;
+        }
+        final int topLevelStart = domain.lastIndexOf('.', end - 1);
+        return topLevelStart > 0 && walk(this.anyTopLevelNode, domain, topLevelStart);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    static String normalize(final String entry) {
+        if (entry == null) {
+            return null;
+        }
+        String domain = entry.trim().toLowerCase(Locale.ROOT);
+        if (domain.startsWith("*.")) {
+            domain = domain.substring(2);
+        }
+        while (domain.startsWith(".")) {
+            domain = domain.substring(1);
+        }
+        while (domain.endsWith(".")) {
+            domain = domain.substring(0, domain.length() - 1);
+        }
+        if (domain.isEmpty() || domain.startsWith("#") || domain.contains("..") || domain.contains(" ")) {
+            return null;
+        }
+        return domain;
+    }
+
+    private boolean walk(int node, final String domain, int end) {
+        while (end > 0) {
+            final int start = domain.lastIndexOf('.', end - 1) + 1;
+            node = findChild(node, domain, start, end);
+            if (node < 0) {
+                return false;
+            }
+            if (this.terminals.get(node)) {
+                return true;
+            }
+            end = start - 1;
+        }
+        return false;
+    }
+
+    private int findChild(final int node, final String domain, final int start, final int end) {
+        int low = this.childOffsets[node];
+        int high = this.childOffsets[node + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = compare(this.labels[this.childLabels[mid]], domain, start, end);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return this.childNodes[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(final String label, final String domain, final int start, final int end) {
+        final int length = end - start;
+        final int limit = Math.min(label.length(), length);
+        for (int i = 0; i < limit; i++) {
+            final char left = label.charAt(i);
+            final char right = Character.toLowerCase(domain.charAt(start + i));
+            if (left != right) {
+                return left - right;
+            }
+        }
+        return label.length() - length;
+    }
+
+    private static DisposableDomainMatcher freeze(final BuildNode root, final String[] labels, final int size) {
+        final List<BuildNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        int edges = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            final BuildNode node = nodes.get(i);
+            for (final BuildNode child : node.children.values()) {
+                child.id = nodes.size();
+                nodes.add(child);
+                edges++;
+            }
+        }
+
+        final int[] childOffsets = new int[nodes.size() + 1];
+        final int[] childLabels = new int[edges];
+        final int[] childNodes = new int[edges];
+        final BitSet terminals = new BitSet(nodes.size());
+
+        int edge = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            final BuildNode node = nodes.get(i);
+            childOffsets[i] = edge;
+            if (node.terminal) {
+                terminals.set(i);
+            }
+            for (final Map.Entry<String, BuildNode> child : node.children.entrySet()) {
+                childLabels[edge] = Arrays.binarySearch(labels, child.getKey());
+                childNodes[edge] = child.getValue().id;
+                edge++;
+            }
+        }
+        childOffsets[nodes.size()] = edge;
+        return new DisposableDomainMatcher(labels, childOffsets, childLabels, childNodes, terminals, size);
+    }
+
+    private static final class BuildNode {
+        private final SortedMap<String, BuildNode> children = new TreeMap<>();
+        private boolean terminal;
+        private int id;
+
+        private BuildNode child(final String label) {
+            return this.children.computeIfAbsent(label, ignored -> new BuildNode());
+        }
+    }
+}
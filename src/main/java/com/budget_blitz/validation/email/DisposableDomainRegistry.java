@@ -0,0 +1,92 @@
+package com.budget_blitz.validation.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+@Slf4j
+public class DisposableDomainRegistry {
+
+    private final List<String> inlineDomains;
+    private final Path file;
+
+    private volatile DisposableDomainMatcher matcher = DisposableDomainMatcher.empty();
+    private volatile FileTime loadedVersion;
+
+    public DisposableDomainRegistry(
+            @Value("${app.security.disposable-email:}") final List<String> inlineDomains,
+            @Value("${app.security.disposable-email-file:}") final String file) {
+        this.inlineDomains = List.copyOf(inlineDomains);
+        this.file = StringUtils.hasText(file) ? Path.of(file.trim()) : null;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.disposable-email-reload-interval:30s}")
+    public void reloadIfChanged() {
+        if (this.file == null) {
+            return;
+        }
+        try {
+            final FileTime modified = Files.getLastModifiedTime(this.file);
+            if (!modified.equals(this.loadedVersion)) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("Could not check disposable email domain file {}: {}", this.file, e.getMessage());
+        }
+    }
+
+    public boolean isDisposable(final String email) {
+        if (email == null) {
+            return false;
+        }
+        final int atIndex = email.lastIndexOf('@');
+        if (atIndex < 0 || atIndex == email.length() - 1) {
+            return false;
+        }
+        return this.matcher.matches(email.substring(atIndex + 1).trim().toLowerCase(Locale.ROOT));
+    }
+
+    public int size() {
+        return this.matcher.size();
+    }
+
+    private synchronized void reload() {
+        final List<String> domains = new ArrayList<>(this.inlineDomains);
+        FileTime version = null;
+        if (this.file != null) {
+            try {
+                version = Files.getLastModifiedTime(this.file);
+                try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+                    reader.lines().forEach(domains::add);
+                }
+            } catch (IOException e) {
+                log.error("Could not load disposable email domain file {}, keeping {} domains: {}",
+                        this.file, this.matcher.size(), e.getMessage());
+                return;
+            }
+        }
+
+        this.matcher = DisposableDomainMatcher.of(domains);
+        this.loadedVersion = version;
+        log.info("Loaded {} disposable email domains", this.matcher.size());
+    }
+}
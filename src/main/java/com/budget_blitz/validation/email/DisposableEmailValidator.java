@@ -2,23 +2,13 @@ package com.budget_blitz.validation.email;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import org.springframework.beans.factory.annotation.Value;
-
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class DisposableEmailValidator implements ConstraintValidator<NonDisposableEmail, String> {
 
-    private final Set<String> blocked;
+    private final DisposableDomainRegistry disposableDomainRegistry;
 
-    DisposableEmailValidator(
-            @Value("${app.security.disposable-email}")
-            List<String> domains
-            ) {
-        this.blocked = domains.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
+    DisposableEmailValidator(final DisposableDomainRegistry disposableDomainRegistry) {
+        this.disposableDomainRegistry = disposableDomainRegistry;
     }
 
     @Override
@@ -26,10 +16,6 @@ public class DisposableEmailValidator implements ConstraintValidator<NonDisposab
         if (email == null || !email.contains("@")) {
             return true;
         }
-
-        final int atIndex = email.indexOf("@") + 1;
-        final int dotIndex = email.lastIndexOf(".");
-        final String domain = email.substring(atIndex, dotIndex);
-        return !this.blocked.contains(domain);
+        return !this.disposableDomainRegistry.isDisposable(email);
     }
 }
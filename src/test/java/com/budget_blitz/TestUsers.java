@@ -0,0 +1,53 @@
+package com.budget_blitz;
+
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User create(final UserRepository userRepository, final RoleRepository roleRepository,
+                              final PlatformTransactionManager transactionManager, final String role) {
+        return new TransactionTemplate(transactionManager).execute(status -> userRepository.save(User.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email(UUID.randomUUID() + "@example.com")
+                .password("password")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .enabled(true)
+                .emailVerified(true)
+                .roles(Set.of(roleRepository.findByName(role).orElseThrow()))
+                .build()));
+    }
+
+    public static Category category(final CategoryRepository categoryRepository, final User user, final String name) {
+        return categoryRepository.save(Category.builder()
+                .name(name)
+                .user(user)
+                .createdBy(user.getId())
+                .build());
+    }
+
+    public static void authenticate(final User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    public static void clear() {
+        SecurityContextHolder.clearContext();
+    }
+}
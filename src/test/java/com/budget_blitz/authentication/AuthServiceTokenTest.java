@@ -0,0 +1,106 @@
+package com.budget_blitz.authentication;
+
+import com.budget_blitz.TestUsers;
+import com.budget_blitz.authentication.impl.AuthServiceImpl;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.security.TokenDigestService;
+import com.budget_blitz.users.Token;
+import com.budget_blitz.users.TokenRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceTokenTest {
+
+    @Autowired
+    private AuthServiceImpl authService;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private TokenDigestService tokenDigestService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        this.user = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+    }
+
+    @Test
+    void findsFreshCode() {
+        final String code = this.authService.generateAndSaveToken(this.user);
+
+        final Token token = this.authService.findTokenByCode(code).orElseThrow();
+
+        assertThat(token.getUser().getId()).isEqualTo(this.user.getId());
+        assertThat(token.getCodeDigest()).isEqualTo(this.tokenDigestService.digest(code));
+        assertThat(token.getToken()).isNotEqualTo(code);
+    }
+
+    @Test
+    void rejectsWrongCode() {
+        final String code = this.authService.generateAndSaveToken(this.user);
+        final String wrong = String.format("%06d", (Integer.parseInt(code) + 1) % 1_000_000);
+
+        assertThat(this.authService.findTokenByCode(wrong)).isEmpty();
+        assertThat(this.authService.findTokenByCode("")).isEmpty();
+    }
+
+    @Test
+    void skipsNewerDigestCollisionsWithinTopFive() {
+        final String code = this.authService.generateAndSaveToken(this.user);
+        final String digest = this.tokenDigestService.digest(code);
+        final String other = String.format("%06d", (Integer.parseInt(code) + 1) % 1_000_000);
+        for (int i = 1; i <= 4; i++) {
+            saveToken(other, digest, LocalDateTime.now().plusSeconds(i));
+        }
+
+        final Token token = this.authService.findTokenByCode(code).orElseThrow();
+
+        assertThat(this.passwordEncoder.matches(code, token.getToken())).isTrue();
+        assertThat(this.authService.findTokenByCode(other)).isEmpty();
+    }
+
+    @Test
+    void returnsNewestTokenWhenUsersShareACode() {
+        final User other = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        final String code = this.authService.generateAndSaveToken(this.user);
+        final Token newest = saveToken(code, this.tokenDigestService.digest(code), LocalDateTime.now().plusSeconds(1), other);
+
+        assertThat(this.authService.findTokenByCode(code).orElseThrow().getId()).isEqualTo(newest.getId());
+    }
+
+    private Token saveToken(final String code, final String digest, final LocalDateTime createdAt) {
+        return saveToken(code, digest, createdAt, this.user);
+    }
+
+    private Token saveToken(final String code, final String digest, final LocalDateTime createdAt, final User owner) {
+        return this.tokenRepository.save(Token.builder()
+                .token(this.passwordEncoder.encode(code))
+                .codeDigest(digest)
+                .createdAt(createdAt)
+                .expiredAt(createdAt.plusMinutes(15))
+                .user(owner)
+                .build());
+    }
+}
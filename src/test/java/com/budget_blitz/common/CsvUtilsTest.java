@@ -0,0 +1,37 @@
+package com.budget_blitz.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvUtilsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=1+2", "+1", "-1", "@SUM(A1)", "\tcmd"})
+    void guardsTextThatStartsLikeAFormula(final String value) {
+        assertThat(CsvUtils.escape(value)).isEqualTo("'" + value);
+        assertThat(CsvUtils.stripFormulaGuard(CsvUtils.escape(value))).isEqualTo(value);
+    }
+
+    @Test
+    void quotesGuardedTextWithSeparators() {
+        assertThat(CsvUtils.escape("=HYPERLINK(\"http://x\",\"y\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"");
+        assertThat(CsvUtils.escape("\rnote")).isEqualTo("\"'\rnote\"");
+    }
+
+    @Test
+    void leavesNumbersDatesAndPlainTextAlone() {
+        assertThat(CsvUtils.escape(new BigDecimal("-12.50"))).isEqualTo("-12.50");
+        assertThat(CsvUtils.escape(LocalDate.of(2024, 3, 1))).isEqualTo("2024-03-01");
+        assertThat(CsvUtils.escape("Lunch")).isEqualTo("Lunch");
+        assertThat(CsvUtils.escape(null)).isEmpty();
+        assertThat(CsvUtils.stripFormulaGuard("'quoted")).isEqualTo("'quoted");
+        assertThat(CsvUtils.stripFormulaGuard("'")).isEqualTo("'");
+    }
+}
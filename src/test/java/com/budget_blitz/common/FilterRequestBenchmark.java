@@ -0,0 +1,37 @@
+package com.budget_blitz.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterRequestBenchmark {
+
+    @Param({"createdDate,DESC", "amount,ASC", "relevance,DESC"})
+    private String sort;
+
+    private FilterRequest filterRequest;
+
+    @Setup
+    public void setup() {
+        this.filterRequest = new FilterRequest();
+        this.filterRequest.setSort(this.sort);
+    }
+
+    @Benchmark
+    public Sort toSort() {
+        return this.filterRequest.toSort(true);
+    }
+
+    @Benchmark
+    public Pageable toPageable() {
+        return this.filterRequest.toPageable(true);
+    }
+}
@@ -0,0 +1,84 @@
+package com.budget_blitz.common;
+
+import com.budget_blitz.role.Role;
+import com.budget_blitz.role.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdGeneratorInitializerTest {
+
+    @Autowired
+    private IdGeneratorInitializer idGeneratorInitializer;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seedsPastTheHighestExistingId() {
+        final long maxId = nextVal() + 1000;
+        this.jdbcTemplate.update("INSERT INTO roles (id, name, created_date, created_by) VALUES (?, ?, ?, ?)",
+                maxId, "ROLE_SEED_TEST", LocalDateTime.now(), 0);
+        try {
+            this.idGeneratorInitializer.init();
+            assertThat(nextVal()).isEqualTo(maxId + BaseEntity.ID_ALLOCATION_SIZE + 1);
+
+            this.idGeneratorInitializer.init();
+            assertThat(nextVal()).isEqualTo(maxId + BaseEntity.ID_ALLOCATION_SIZE + 1);
+        } finally {
+            this.jdbcTemplate.update("DELETE FROM roles WHERE id = ?", maxId);
+        }
+    }
+
+    @Test
+    void recreatesMissingGeneratorRow() {
+        final long before = nextVal();
+        this.jdbcTemplate.update("DELETE FROM " + BaseEntity.ID_GENERATOR_TABLE + " WHERE sequence_name = ?",
+                BaseEntity.ID_GENERATOR);
+        try {
+            this.idGeneratorInitializer.init();
+
+            final Long maxId = this.jdbcTemplate.queryForObject("""
+                    SELECT COALESCE(MAX(id), 0) FROM (
+                        SELECT id FROM roles UNION ALL SELECT id FROM categories
+                        UNION ALL SELECT id FROM expenses UNION ALL SELECT id FROM incomes
+                    ) ids
+                    """, Long.class);
+            assertThat(nextVal()).isEqualTo(maxId + BaseEntity.ID_ALLOCATION_SIZE + 1);
+        } finally {
+            this.jdbcTemplate.update("UPDATE " + BaseEntity.ID_GENERATOR_TABLE
+                    + " SET next_val = GREATEST(next_val, ?) WHERE sequence_name = ?", before, BaseEntity.ID_GENERATOR);
+        }
+    }
+
+    @Test
+    void allocatesIdsInPooledBlocks() {
+        final long before = nextVal();
+        final List<Role> roles = this.roleRepository.saveAll(IntStream.range(0, BaseEntity.ID_ALLOCATION_SIZE)
+                .<Role>mapToObj(i -> Role.builder().name("ROLE_POOLED_" + i).createdBy(0).build())
+                .toList());
+        try {
+            assertThat(roles).extracting(Role::getId).doesNotHaveDuplicates();
+            assertThat(nextVal() - before).isLessThanOrEqualTo(2L * BaseEntity.ID_ALLOCATION_SIZE);
+        } finally {
+            this.roleRepository.deleteAll(roles);
+        }
+    }
+
+    private long nextVal() {
+        final Long nextVal = this.jdbcTemplate.queryForObject("SELECT next_val FROM " + BaseEntity.ID_GENERATOR_TABLE
+                + " WHERE sequence_name = ?", Long.class, BaseEntity.ID_GENERATOR);
+        return nextVal != null ? nextVal : 0;
+    }
+}
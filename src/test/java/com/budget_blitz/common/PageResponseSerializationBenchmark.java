@@ -0,0 +1,61 @@
+package com.budget_blitz.common;
+
+import com.budget_blitz.expense.response.ExpenseResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<ExpenseResponse> page;
+    private PageResponse<ExpenseResponse> slice;
+
+    @Setup
+    public void setup() {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        final List<ExpenseResponse> content = new ArrayList<>(this.pageSize);
+        for (int i = 0; i < this.pageSize; i++) {
+            content.add(ExpenseResponse.builder()
+                    .id(i)
+                    .amount(new BigDecimal("19.99").add(BigDecimal.valueOf(i)))
+                    .date(LocalDate.of(2025, 1, 1).plusDays(i))
+                    .description("Expense number " + i)
+                    .categoryName("Category " + (i % 8))
+                    .build());
+        }
+
+        final PageRequest pageable = PageRequest.of(0, this.pageSize);
+        this.page = PageResponse.of(new PageImpl<>(content, pageable, this.pageSize * 25L), content);
+        this.slice = PageResponse.of(new SliceImpl<>(content, pageable, true), content);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.page);
+    }
+
+    @Benchmark
+    public byte[] serializeSlice() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.slice);
+    }
+}
@@ -0,0 +1,92 @@
+package com.budget_blitz.common;
+
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScrollCursorTest {
+
+    private static final Sort BY_AMOUNT = Sort.by(Sort.Direction.ASC, "amount");
+
+    @Test
+    void roundTripsEverySupportedKeyType() {
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdDate", LocalDateTime.of(2024, 3, 1, 12, 30, 15));
+        keys.put("date", LocalDate.of(2024, 3, 1));
+        keys.put("amount", new BigDecimal("12.50"));
+        keys.put("id", 42);
+
+        final String cursor = ScrollCursor.encode(ScrollPosition.forward(keys));
+        final ScrollPosition decoded = ScrollCursor.decode(cursor,
+                Sort.by("createdDate").and(Sort.by("date")).and(BY_AMOUNT));
+
+        assertThat(decoded).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) decoded).getKeys()).isEqualTo(keys);
+    }
+
+    @Test
+    void blankCursorStartsFromTheBeginning() {
+        assertThat(ScrollCursor.decode(null, BY_AMOUNT).isInitial()).isTrue();
+        assertThat(ScrollCursor.decode(" ", BY_AMOUNT).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsCursorForAnotherSort() {
+        final String cursor = ScrollCursor.encode(ScrollPosition.forward(Map.of("amount", BigDecimal.ONE, "id", 1)));
+
+        assertInvalid(() -> ScrollCursor.decode(cursor, Sort.by("date")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64!",
+            "{\"amount\":1}",
+            "[null]",
+            "[[\"amount\",\"n\"]]",
+            "[[\"amount\",\"n\",\"1\"]]",
+            "[[\"amount\",\"n\",null],[\"id\",\"i\",\"1\"]]",
+            "[[\"amount\",\"s\",\"1\"],[\"id\",\"i\",\"1\"]]",
+            "[[\"amount\",\"n\",\"abc\"],[\"id\",\"i\",\"1\"]]",
+            "[[\"amount\",\"x\",\"1\"],[\"id\",\"i\",\"1\"]]",
+            "[[\"amount\",\"n\",\"1\"],[\"id\",\"i\",\"1\"],[\"description\",\"s\",\"a\"]]",
+            "[[null,\"n\",\"1\"],[\"id\",\"i\",\"1\"]]"
+    })
+    void rejectsMalformedCursors(final String payload) {
+        final String cursor = payload.startsWith("[") || payload.startsWith("{")
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                : payload;
+
+        assertInvalid(() -> ScrollCursor.decode(cursor, BY_AMOUNT));
+    }
+
+    @Test
+    void supportsOnlyNonNullSortColumns() {
+        assertThat(ScrollCursor.supports(Sort.by("createdDate"))).isTrue();
+        assertThat(ScrollCursor.supports(Sort.by("amount", "date"))).isTrue();
+        assertThat(ScrollCursor.supports(Sort.by("description"))).isFalse();
+        assertThat(ScrollCursor.supports(Sort.by("lastModifiedDate"))).isFalse();
+        assertThat(ScrollCursor.supports(Sort.unsorted())).isFalse();
+    }
+
+    private static void assertInvalid(final Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+    }
+}
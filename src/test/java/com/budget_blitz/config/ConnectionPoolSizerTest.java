@@ -0,0 +1,107 @@
+package com.budget_blitz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolSizerTest {
+
+    @Test
+    void explicitSizeWinsEvenBelowHikariDefault() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setSize(4);
+        properties.setDbCores(16);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties)).isEqualTo(4);
+    }
+
+    @Test
+    void keepsHikariDefaultWhenNothingIsConfigured() {
+        assertThat(ConnectionPoolSizer.resolvePoolSize(new ConnectionPoolProperties()))
+                .isEqualTo(ConnectionPoolSizer.HIKARI_DEFAULT_POOL_SIZE);
+    }
+
+    @Test
+    void derivesSizeFromDatabaseCores() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setDbCores(8);
+        properties.setSpindleCount(2);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties)).isEqualTo(18);
+    }
+
+    @Test
+    void capsDerivedSizeAtPerInstanceShareOfMaxConnections() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setDbCores(16);
+        properties.setDbMaxConnections(100);
+        properties.setReservedConnections(10);
+        properties.setInstances(6);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties)).isEqualTo(15);
+    }
+
+    @Test
+    void neverDerivesBelowHikariDefaultWithoutMaxConnections() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setDbCores(1);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties))
+                .isEqualTo(ConnectionPoolSizer.HIKARI_DEFAULT_POOL_SIZE);
+    }
+
+    @Test
+    void honoursMaxConnectionsBelowHikariDefault() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setDbCores(1);
+        properties.setDbMaxConnections(30);
+        properties.setInstances(4);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties)).isEqualTo(5);
+    }
+
+    @Test
+    void keepsAtLeastOneConnectionWhenReservedExceedsMaxConnections() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setDbMaxConnections(8);
+
+        assertThat(ConnectionPoolSizer.resolvePoolSize(properties)).isEqualTo(1);
+    }
+
+    @Test
+    void keepsExplicitHikariMaximumPoolSize() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setSize(40);
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(ConnectionPoolSizer.MAXIMUM_POOL_SIZE_PROPERTY, "25");
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(25);
+            sizer(properties, environment).postProcessAfterInitialization(dataSource, "dataSource");
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(25);
+        }
+    }
+
+    @Test
+    void resizesPoolWithoutHikariMaximumPoolSize() {
+        final ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setSize(40);
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            sizer(properties, new MockEnvironment()).postProcessAfterInitialization(dataSource, "dataSource");
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(40);
+        }
+    }
+
+    private static ConnectionPoolSizer sizer(final ConnectionPoolProperties properties, final MockEnvironment environment) {
+        return new ConnectionPoolSizer(new StaticListableBeanFactory(Map.of("connectionPoolProperties", properties))
+                .getBeanProvider(ConnectionPoolProperties.class), environment);
+    }
+}
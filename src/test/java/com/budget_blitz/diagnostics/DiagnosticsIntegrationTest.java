@@ -0,0 +1,109 @@
+package com.budget_blitz.diagnostics;
+
+import com.budget_blitz.TestUsers;
+import com.budget_blitz.diagnostics.response.DiagnosticsResponse;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.security.JwtService;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = {
+        "app.diagnostics.enabled=true",
+        "app.diagnostics.response-headers=true",
+        "app.diagnostics.query-count-threshold=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DiagnosticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final User user = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        final User admin = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_ADMIN");
+        this.userToken = this.jwtService.generateAccessToken(user.getEmail());
+        this.adminToken = this.jwtService.generateAccessToken(admin.getEmail());
+
+        this.mockMvc.perform(delete("/admin/diagnostics").header(HttpHeaders.AUTHORIZATION, bearer(this.adminToken)));
+    }
+
+    @Test
+    void reportsQueryCountHeader() throws Exception {
+        final MockHttpServletResponse response = perform("/expenses", this.userToken);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(DiagnosticsResponseAdvice.QUERY_COUNT_HEADER)).isNotNull();
+        assertThat(Integer.parseInt(response.getHeader(DiagnosticsResponseAdvice.QUERY_COUNT_HEADER))).isPositive();
+        assertThat(response.getHeader(DiagnosticsResponseAdvice.ENTITY_LOAD_COUNT_HEADER)).isNotNull();
+    }
+
+    @Test
+    void flagsRequestsOverTheThreshold() throws Exception {
+        final MockHttpServletResponse expenses = perform("/expenses", this.userToken);
+        final int queryCount = Integer.parseInt(expenses.getHeader(DiagnosticsResponseAdvice.QUERY_COUNT_HEADER));
+        assertThat(queryCount).isGreaterThan(1);
+
+        final MockHttpServletResponse response = perform("/admin/diagnostics", this.adminToken);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        final DiagnosticsResponse diagnostics = this.objectMapper.readValue(response.getContentAsString(),
+                DiagnosticsResponse.class);
+        assertThat(diagnostics.getQueryCountThreshold()).isEqualTo(1);
+        assertThat(diagnostics.getFlaggedRequests())
+                .filteredOn(flagged -> flagged.getPath().equals("/expenses"))
+                .singleElement()
+                .satisfies(flagged -> {
+                    assertThat(flagged.getMethod()).isEqualTo("GET");
+                    assertThat(flagged.getStatus()).isEqualTo(200);
+                    assertThat(flagged.getQueryCount()).isEqualTo(queryCount);
+                });
+    }
+
+    @Test
+    void rejectsNonAdminUsers() throws Exception {
+        assertThat(perform("/admin/diagnostics", this.userToken).getStatus()).isEqualTo(403);
+        assertThat(this.mockMvc.perform(delete("/admin/diagnostics")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(this.userToken)))
+                .andReturn().getResponse().getStatus()).isEqualTo(403);
+    }
+
+    private MockHttpServletResponse perform(final String path, final String token) throws Exception {
+        return this.mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, bearer(token)))
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String bearer(final String token) {
+        return "Bearer " + token;
+    }
+}
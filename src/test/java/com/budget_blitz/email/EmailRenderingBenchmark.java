@@ -0,0 +1,96 @@
+package com.budget_blitz.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"ACTIVATE_ACCOUNT", "PASSWORD_RESET"})
+    private EmailTemplateName template;
+
+    private EmailTemplateRenderer renderer;
+    private EmailService emailService;
+    private List<EmailOutbox> emails;
+
+    @Setup
+    public void setup() throws Exception {
+        this.renderer = new EmailTemplateRenderer(templateEngine());
+        this.renderer.init();
+
+        this.emailService = new EmailService(new JavaMailSenderImpl(), this.renderer, new EmailProperties());
+        this.emailService.init();
+
+        this.emails = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.emails.add(EmailOutbox.builder()
+                    .recipient("user" + i + "@budget.blitz.com")
+                    .username("Benchmark User " + i)
+                    .template(this.template)
+                    .code(String.format("%06d", i))
+                    .status(EmailOutboxStatus.PENDING)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public String renderOne() {
+        return this.renderer.newBatch().render(this.emails.get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> renderBatch() {
+        final EmailTemplateRenderer.Batch batch = this.renderer.newBatch();
+        final List<String> rendered = new ArrayList<>(BATCH_SIZE);
+        for (final EmailOutbox email : this.emails) {
+            rendered.add(batch.render(email));
+        }
+        return rendered;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<MimeMessage> createMessageBatch() throws MessagingException {
+        final EmailService.MessageBatch batch = this.emailService.newBatch();
+        final List<MimeMessage> messages = new ArrayList<>(BATCH_SIZE);
+        for (final EmailOutbox email : this.emails) {
+            messages.add(batch.create(email));
+        }
+        return messages;
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        final SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setEnableSpringELCompiler(true);
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
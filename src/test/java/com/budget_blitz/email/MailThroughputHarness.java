@@ -0,0 +1,192 @@
+package com.budget_blitz.email;
+
+import com.budget_blitz.BudgetBlitzApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+public final class MailThroughputHarness {
+
+    private static final int USERS = Integer.getInteger("mail.bench.users", 500);
+    private static final int CONCURRENCY = Integer.getInteger("mail.bench.concurrency", 16);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(Long.getLong("mail.bench.drain-timeout-seconds", 120));
+    private static final String PASSWORD = "Bench#Pass1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    private MailThroughputHarness(final String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        final GreenMail greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+
+        final ConfigurableApplicationContext context = SpringApplication.run(BudgetBlitzApiApplication.class,
+                "--spring.profiles.active=test",
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + greenMail.getSmtp().getPort(),
+                "--app.email.outbox.enabled=true",
+                "--app.email.outbox.poll-interval=" + System.getProperty("mail.bench.poll-interval", "100ms"),
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN");
+
+        try {
+            final String port = context.getEnvironment().getProperty("local.server.port");
+            final MailThroughputHarness harness = new MailThroughputHarness("http://127.0.0.1:" + port + "/api/v1/");
+            final Map<String, Object> report = harness.run(greenMail, context.getBean(JdbcTemplate.class));
+
+            final String json = harness.objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+            System.out.println(json);
+            if (args.length > 0) {
+                Files.writeString(Path.of(args[0]), json);
+            }
+        } finally {
+            context.close();
+            greenMail.stop();
+        }
+    }
+
+    private Map<String, Object> run(final GreenMail greenMail, final JdbcTemplate jdbcTemplate)
+            throws Exception {
+        final long start = System.nanoTime();
+        final Phase register = drive("register", index -> post("auth/register", Map.of(
+                "firstName", "Bench",
+                "lastName", "User",
+                "email", email(index),
+                "dateOfBirth", "1990-01-01",
+                "password", PASSWORD,
+                "confirmPassword", PASSWORD)));
+        final Phase forgotPassword = drive("forgot-password", index -> post("auth/forgot-password",
+                Map.of("email", email(index))));
+
+        final int expected = register.succeeded() + forgotPassword.succeeded();
+        final long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        int received = greenMail.getReceivedMessages().length;
+        long lastReceivedAt = System.nanoTime();
+        while (received < expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            final int current = greenMail.getReceivedMessages().length;
+            if (current != received) {
+                received = current;
+                lastReceivedAt = System.nanoTime();
+            }
+        }
+        while (countOutboxRows(jdbcTemplate, EmailOutboxStatus.PENDING) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        final double seconds = Math.max(1, lastReceivedAt - start) / 1_000_000_000.0;
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", USERS);
+        report.put("concurrency", CONCURRENCY);
+        report.put("phases", List.of(register.toReport(), forgotPassword.toReport()));
+        report.put("expectedMessages", expected);
+        report.put("deliveredMessages", received);
+        report.put("droppedMessages", Math.max(0, expected - received));
+        report.put("failedOutboxRows", countOutboxRows(jdbcTemplate, EmailOutboxStatus.FAILED));
+        report.put("pendingOutboxRows", countOutboxRows(jdbcTemplate, EmailOutboxStatus.PENDING));
+        report.put("sendsPerSecond", received / seconds);
+        return report;
+    }
+
+    private static long countOutboxRows(final JdbcTemplate jdbcTemplate, final EmailOutboxStatus status) {
+        final Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_outbox WHERE status = ?",
+                Long.class, status.name());
+        return count != null ? count : 0;
+    }
+
+    private Phase drive(final String name, final IntFunction<HttpRequest> requestFactory) throws InterruptedException {
+        final ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        final long[] latencies = new long[USERS];
+        final AtomicInteger failed = new AtomicInteger();
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < USERS; i++) {
+            final int index = i;
+            workers.execute(() -> {
+                final long begin = System.nanoTime();
+                try {
+                    final HttpResponse<Void> response = this.httpClient.send(requestFactory.apply(index),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        failed.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+                latencies[index] = System.nanoTime() - begin;
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        return new Phase(name, latencies, failed.get(), System.nanoTime() - start);
+    }
+
+    private HttpRequest post(final String path, final Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(this.objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String email(final int index) {
+        return "bench" + index + "@budget.blitz.com";
+    }
+
+    private record Phase(String name, long[] latencies, int failed, long elapsedNanos) {
+
+        int succeeded() {
+            return this.latencies.length - this.failed;
+        }
+
+        Map<String, Object> toReport() {
+            final long[] sorted = this.latencies.clone();
+            Arrays.sort(sorted);
+
+            final Map<String, Object> report = new LinkedHashMap<>();
+            report.put("name", this.name);
+            report.put("requests", sorted.length);
+            report.put("failed", this.failed);
+            report.put("requestsPerSecond", sorted.length / (this.elapsedNanos / 1_000_000_000.0));
+            report.put("p50Millis", percentile(sorted, 0.50));
+            report.put("p90Millis", percentile(sorted, 0.90));
+            report.put("p99Millis", percentile(sorted, 0.99));
+            report.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+            return report;
+        }
+
+        private static double percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.budget_blitz.email.impl;
+
+import com.budget_blitz.email.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmailOutboxServiceImplTest {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxProperties properties;
+    private EmailOutboxService emailOutboxService;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        this.emailOutboxRepository.deleteAll();
+        this.properties = new EmailOutboxProperties();
+        this.properties.setMaxAttempts(4);
+        this.properties.setInitialBackoff(Duration.ofSeconds(30));
+        this.properties.setMaxBackoff(Duration.ofMinutes(1));
+        this.properties.setClaimLease(Duration.ofMinutes(5));
+        this.properties.setRetention(Duration.ofDays(7));
+        this.emailOutboxService = new EmailOutboxServiceImpl(this.emailOutboxRepository, this.properties);
+        this.transaction = new TransactionTemplate(this.transactionManager);
+    }
+
+    @Test
+    void enqueueStoresEncryptedCode() {
+        inTransaction(() -> {
+            this.emailOutboxService.enqueue("jane@example.com", "jane", EmailTemplateName.PASSWORD_RESET, "123456");
+            return null;
+        });
+
+        final EmailOutbox email = this.emailOutboxRepository.findAll().get(0);
+        final String stored = this.jdbcTemplate.queryForObject(
+                "SELECT code FROM email_outbox WHERE id = ?", String.class, email.getId());
+
+        assertThat(email.getCode()).isEqualTo("123456");
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(stored).isNotBlank().doesNotContain("123456");
+    }
+
+    @Test
+    void claimDueLeasesOnlyDuePendingRows() {
+        final LocalDateTime now = LocalDateTime.now();
+        final EmailOutbox oldest = save(EmailOutboxStatus.PENDING, now.minusMinutes(2), now);
+        final EmailOutbox due = save(EmailOutboxStatus.PENDING, now.minusMinutes(1), now);
+        final EmailOutbox later = save(EmailOutboxStatus.PENDING, now.plusMinutes(1), now);
+        save(EmailOutboxStatus.SENT, now.minusMinutes(3), now);
+
+        final List<EmailOutbox> first = claim(1);
+        final List<EmailOutbox> second = claim(10);
+
+        assertThat(first).extracting(EmailOutbox::getId).containsExactly(oldest.getId());
+        assertThat(second).extracting(EmailOutbox::getId).containsExactly(due.getId());
+        assertThat(claim(10)).isEmpty();
+        assertThat(reload(oldest).getNextAttemptAt()).isCloseTo(now.plusMinutes(5), within(5, ChronoUnit.SECONDS));
+        assertThat(reload(later).getNextAttemptAt()).isCloseTo(later.getNextAttemptAt(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void recordResultsMarksSentAndSchedulesRetry() {
+        final LocalDateTime now = LocalDateTime.now();
+        final EmailOutbox sent = save(EmailOutboxStatus.PENDING, now, now);
+        final EmailOutbox failed = save(EmailOutboxStatus.PENDING, now, now);
+
+        record(List.of(sent.getId()), Map.of(failed.getId(), "x".repeat(EmailOutbox.LAST_ERROR_LENGTH + 100)));
+
+        final EmailOutbox sentRow = reload(sent);
+        assertThat(sentRow.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sentRow.getAttempts()).isEqualTo(1);
+        assertThat(sentRow.getSentAt()).isNotNull();
+        assertThat(sentRow.getCode()).isNull();
+
+        final EmailOutbox failedRow = reload(failed);
+        assertThat(failedRow.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(failedRow.getAttempts()).isEqualTo(1);
+        assertThat(failedRow.getLastError()).hasSize(EmailOutbox.LAST_ERROR_LENGTH);
+        assertThat(failedRow.getCode()).isEqualTo("123456");
+        assertThat(failedRow.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void backoffDoublesUpToMaxThenGivesUp() {
+        final EmailOutbox email = save(EmailOutboxStatus.PENDING, LocalDateTime.now(), LocalDateTime.now());
+
+        record(List.of(), Map.of(email.getId(), "timeout"));
+        assertThat(reload(email).getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+
+        record(List.of(), Map.of(email.getId(), "timeout"));
+        assertThat(reload(email).getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+
+        record(List.of(), Map.of(email.getId(), "timeout"));
+        assertThat(reload(email).getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+
+        record(List.of(), Map.of(email.getId(), "timeout"));
+        final EmailOutbox failed = reload(email);
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(4);
+        assertThat(failed.getCode()).isNull();
+        assertThat(failed.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    void purgeCompletedDeletesOnlyOldSentAndFailedRows() {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime old = now.minusDays(8);
+        save(EmailOutboxStatus.SENT, now, old);
+        save(EmailOutboxStatus.FAILED, now, old);
+        final EmailOutbox pending = save(EmailOutboxStatus.PENDING, now, old);
+        final EmailOutbox recent = save(EmailOutboxStatus.SENT, now, now.minusDays(1));
+
+        assertThat(inTransaction(this.emailOutboxService::purgeCompleted)).isEqualTo(2);
+
+        assertThat(this.emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getId)
+                .containsExactlyInAnyOrder(pending.getId(), recent.getId());
+    }
+
+    private EmailOutbox save(final EmailOutboxStatus status, final LocalDateTime nextAttemptAt,
+                             final LocalDateTime createdAt) {
+        return this.emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient("jane@example.com")
+                .username("jane")
+                .template(EmailTemplateName.ACTIVATE_ACCOUNT)
+                .code(status == EmailOutboxStatus.PENDING ? "123456" : null)
+                .status(status)
+                .attempts(0)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private EmailOutbox reload(final EmailOutbox email) {
+        return this.emailOutboxRepository.findById(email.getId()).orElseThrow();
+    }
+
+    private List<EmailOutbox> claim(final int limit) {
+        return inTransaction(() -> this.emailOutboxService.claimDue(limit));
+    }
+
+    private void record(final List<Integer> sentIds, final Map<Integer, String> failures) {
+        inTransaction(() -> {
+            this.emailOutboxService.recordResults(sentIds, failures);
+            return null;
+        });
+    }
+
+    private <T> T inTransaction(final Supplier<T> action) {
+        return this.transaction.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,118 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.TestUsers;
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.common.BatchCreateResponse;
+import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
+import com.budget_blitz.expense.response.ExpenseResponse;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExpenseBatchTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 10);
+
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Category food;
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        this.user = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        this.food = TestUsers.category(this.categoryRepository, this.user, "Food");
+        this.rent = TestUsers.category(this.categoryRepository, this.user, "Rent");
+        TestUsers.authenticate(this.user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUsers.clear();
+    }
+
+    @Test
+    void keyNormalisesAmountToTwoDecimalsHalfUp() {
+        assertThat(new ExpenseKey(1, new BigDecimal("10"), DATE))
+                .isEqualTo(new ExpenseKey(1, new BigDecimal("10.004"), DATE))
+                .isEqualTo(new ExpenseKey(1, new BigDecimal("10.00"), DATE));
+        assertThat(new ExpenseKey(1, new BigDecimal("10.005"), DATE))
+                .isEqualTo(new ExpenseKey(1, new BigDecimal("10.01"), DATE));
+        assertThat(new ExpenseKey(1, new BigDecimal("10.00"), DATE))
+                .isNotEqualTo(new ExpenseKey(2, new BigDecimal("10.00"), DATE))
+                .isNotEqualTo(new ExpenseKey(1, new BigDecimal("10.00"), DATE.plusDays(1)));
+    }
+
+    @Test
+    void batchSkipsExistingAndRepeatedEntries() {
+        this.expenseService.addExpense(expense("10.00", DATE, this.food), this.user.getId());
+
+        final BatchCreateResponse<ExpenseResponse> response = this.expenseService.addExpenses(new BatchAddExpenseRequest(List.of(
+                expense("10", DATE, this.food),
+                expense("10.004", DATE, this.food),
+                expense("10.005", DATE, this.food),
+                expense("10.01", DATE, this.food),
+                expense("10.00", DATE, this.rent),
+                expense("10.00", DATE.plusDays(1), this.food))), this.user.getId());
+
+        assertThat(response.getSkippedDuplicates()).isEqualTo(3);
+        assertThat(response.getCreated()).hasSize(3);
+    }
+
+    @Test
+    void batchIsCappedAtFiveThousandEntries() {
+        final AddExpenseRequest item = expense("1.00", DATE, this.food);
+
+        assertThat(sizeViolations(new BatchAddExpenseRequest(Collections.nCopies(5000, item)))).isEmpty();
+        assertThat(sizeViolations(new BatchAddExpenseRequest(Collections.nCopies(5001, item))))
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("A batch can contain at most 5000 expenses");
+    }
+
+    private List<ConstraintViolation<BatchAddExpenseRequest>> sizeViolations(final BatchAddExpenseRequest request) {
+        return this.validator.validate(request).stream()
+                .filter(violation -> violation.getPropertyPath().toString().equals("expenses"))
+                .toList();
+    }
+
+    private static AddExpenseRequest expense(final String amount, final LocalDate date, final Category category) {
+        return AddExpenseRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .description("Batch test")
+                .categoryId(category.getId())
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.TestUsers;
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.common.ExportFormat;
+import com.budget_blitz.common.ExportProperties;
+import com.budget_blitz.expense.request.ExpenseFilterRequest;
+import com.budget_blitz.expense.response.ExpenseResponse;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExpenseExportTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private ExportProperties exportProperties;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Expense> expenses = new ArrayList<>();
+    private User user;
+    private int chunkSize;
+
+    @BeforeEach
+    void setUp() {
+        this.chunkSize = this.exportProperties.getChunkSize();
+        this.exportProperties.setChunkSize(CHUNK_SIZE);
+
+        this.user = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        final Category category = TestUsers.category(this.categoryRepository, this.user, "Food");
+        final List<String> descriptions = List.of("Lunch", "Dinner, with team", "=1+2", "Coffee", "Snacks");
+        for (int i = 0; i < descriptions.size(); i++) {
+            this.expenses.add(save(this.user, category, BigDecimal.valueOf(i + 1).setScale(2), descriptions.get(i)));
+        }
+
+        final User other = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        save(other, TestUsers.category(this.categoryRepository, other, "Food"), BigDecimal.TEN, "Not mine");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.exportProperties.setChunkSize(this.chunkSize);
+    }
+
+    @Test
+    void csvExportWalksEveryChunkInIdOrder() throws IOException {
+        final List<String> lines = export(new ExpenseFilterRequest(), ExportFormat.CSV);
+
+        assertThat(lines).hasSize(this.expenses.size() + 1);
+        assertThat(lines.get(0)).isEqualTo("id,date,amount,category,description");
+        assertThat(lines.subList(1, lines.size())).containsExactly(
+                row(0, "Lunch"),
+                row(1, "\"Dinner, with team\""),
+                row(2, "'=1+2"),
+                row(3, "Coffee"),
+                row(4, "Snacks"));
+    }
+
+    @Test
+    void ndjsonExportWritesOneObjectPerLine() throws IOException {
+        final List<String> lines = export(new ExpenseFilterRequest(), ExportFormat.NDJSON);
+
+        final List<ExpenseResponse> rows = new ArrayList<>();
+        for (final String line : lines) {
+            rows.add(this.objectMapper.readValue(line, ExpenseResponse.class));
+        }
+        assertThat(rows).extracting(ExpenseResponse::getId)
+                .containsExactlyElementsOf(this.expenses.stream().map(Expense::getId).toList());
+        assertThat(rows.get(2).getDescription()).isEqualTo("=1+2");
+        assertThat(rows).extracting(ExpenseResponse::getCategoryName).containsOnly("Food");
+    }
+
+    @Test
+    void filteredExportKeepsKeysetAcrossChunks() throws IOException {
+        final ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setMinAmount(new BigDecimal("2"));
+
+        final List<String> lines = export(filter, ExportFormat.CSV);
+
+        assertThat(lines.subList(1, lines.size())).containsExactly(
+                row(1, "\"Dinner, with team\""),
+                row(2, "'=1+2"),
+                row(3, "Coffee"),
+                row(4, "Snacks"));
+    }
+
+    @Test
+    void emptyExportWritesOnlyTheHeader() throws IOException {
+        final ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setMinAmount(new BigDecimal("100"));
+
+        assertThat(export(filter, ExportFormat.CSV)).containsExactly("id,date,amount,category,description");
+        assertThat(export(filter, ExportFormat.NDJSON)).isEmpty();
+    }
+
+    private List<String> export(final ExpenseFilterRequest filter, final ExportFormat format) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.expenseService.export(filter, this.user.getId(), format, output);
+        final String content = output.toString(StandardCharsets.UTF_8);
+        return content.isEmpty() ? List.of() : content.lines().toList();
+    }
+
+    private String row(final int index, final String description) {
+        final Expense expense = this.expenses.get(index);
+        return expense.getId() + "," + expense.getDate() + "," + expense.getAmount() + ",Food," + description;
+    }
+
+    private Expense save(final User owner, final Category category, final BigDecimal amount, final String description) {
+        return this.expenseRepository.save(Expense.builder()
+                .amount(amount)
+                .date(LocalDate.of(2024, 3, 1))
+                .description(description)
+                .category(category)
+                .user(owner)
+                .createdBy(owner.getId())
+                .build());
+    }
+}
@@ -0,0 +1,69 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.category.Category;
+import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.UpdateExpenseRequest;
+import com.budget_blitz.expense.response.ExpenseResponse;
+import com.budget_blitz.users.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseMapperBenchmark {
+
+    private ExpenseMapper expenseMapper;
+    private AddExpenseRequest addRequest;
+    private UpdateExpenseRequest updateRequest;
+    private User user;
+    private Category category;
+    private Expense expense;
+
+    @Setup
+    public void setup() {
+        this.expenseMapper = new ExpenseMapperImpl();
+        this.user = User.builder().id(1).email("benchmark@budget.blitz.com").build();
+        this.category = Category.builder().id(7).name("Groceries").user(this.user).build();
+        this.addRequest = AddExpenseRequest.builder()
+                .amount(new BigDecimal("42.50"))
+                .date(LocalDate.of(2025, 3, 14))
+                .description("Weekly groceries")
+                .categoryId(7)
+                .build();
+        this.updateRequest = UpdateExpenseRequest.builder()
+                .amount(new BigDecimal("45.00"))
+                .description("Weekly groceries and snacks")
+                .build();
+        this.expense = this.expenseMapper.toExpense(this.addRequest, this.user, this.category);
+        this.expense.setId(100);
+    }
+
+    @Benchmark
+    public Expense toExpense() {
+        return this.expenseMapper.toExpense(this.addRequest, this.user, this.category);
+    }
+
+    @Benchmark
+    public ExpenseResponse toExpenseResponse() {
+        return this.expenseMapper.toExpenseResponse(this.expense);
+    }
+
+    @Benchmark
+    public Expense updateExpense() {
+        final Expense target = Expense.builder()
+                .amount(this.expense.getAmount())
+                .date(this.expense.getDate())
+                .description(this.expense.getDescription())
+                .category(this.category)
+                .build();
+        this.expenseMapper.updateExpenseRequestToExpense(this.updateRequest, target);
+        return target;
+    }
+}
@@ -0,0 +1,116 @@
+package com.budget_blitz.expense;
+
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.common.CursorPageResponse;
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import com.budget_blitz.expense.request.ExpenseFilterRequest;
+import com.budget_blitz.expense.response.ExpenseResponse;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExpenseScrollTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private final List<Expense> expenses = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        this.user = this.userRepository.save(User.builder()
+                .firstName("Scroll")
+                .lastName("Test")
+                .email(UUID.randomUUID() + "@example.com")
+                .password("password")
+                .enabled(true)
+                .build());
+        final Category category = this.categoryRepository.save(Category.builder()
+                .name("Food")
+                .user(this.user)
+                .createdBy(this.user.getId())
+                .build());
+
+        for (int i = 0; i < 11; i++) {
+            this.expenses.add(this.expenseRepository.save(Expense.builder()
+                    .amount(BigDecimal.valueOf(i % 3 + 1))
+                    .date(LocalDate.of(2024, 3, 1).plusDays(i % 2))
+                    .description(i % 4 == 0 ? null : "Expense " + i)
+                    .category(category)
+                    .user(this.user)
+                    .createdBy(this.user.getId())
+                    .build()));
+        }
+    }
+
+    @Test
+    void scrollsThroughTiedAmountsWithoutSkippingOrRepeating() {
+        final Comparator<Expense> order = Comparator.comparing(Expense::getAmount)
+                .thenComparing(Expense::getId);
+
+        assertThat(scrollAll("amount,ASC")).containsExactlyElementsOf(
+                this.expenses.stream().sorted(order).map(Expense::getId).toList());
+    }
+
+    @Test
+    void scrollsThroughTiedDatesDescending() {
+        final Comparator<Expense> order = Comparator.comparing(Expense::getDate).reversed()
+                .thenComparing(Expense::getId);
+
+        assertThat(scrollAll("date,DESC")).containsExactlyElementsOf(
+                this.expenses.stream().sorted(order).map(Expense::getId).toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"description,ASC", "lastModifiedDate,DESC", "relevance,DESC"})
+    void rejectsSortsThatCannotBeScrolled(final String sort) {
+        final ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setSort(sort);
+
+        assertThatThrownBy(() -> this.expenseService.scroll(filter, this.user.getId()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNSUPPORTED_SCROLL_SORT));
+    }
+
+    private List<Integer> scrollAll(final String sort) {
+        final List<Integer> ids = new ArrayList<>();
+        final ExpenseFilterRequest filter = new ExpenseFilterRequest();
+        filter.setSort(sort);
+        filter.setSize(3);
+
+        CursorPageResponse<ExpenseResponse> page;
+        do {
+            page = this.expenseService.scroll(filter, this.user.getId());
+            page.getContent().forEach(expense -> ids.add(expense.getId()));
+            filter.setCursor(page.getNextCursor());
+        } while (page.isHasNext());
+        return ids;
+    }
+}
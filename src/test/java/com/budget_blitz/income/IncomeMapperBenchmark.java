@@ -0,0 +1,63 @@
+package com.budget_blitz.income;
+
+import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.UpdateIncomeRequest;
+import com.budget_blitz.income.response.IncomeResponse;
+import com.budget_blitz.users.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncomeMapperBenchmark {
+
+    private IncomeMapper incomeMapper;
+    private AddIncomeRequest addRequest;
+    private UpdateIncomeRequest updateRequest;
+    private User user;
+    private Income income;
+
+    @Setup
+    public void setup() {
+        this.incomeMapper = new IncomeMapperImpl();
+        this.user = User.builder().id(1).email("benchmark@budget.blitz.com").build();
+        this.addRequest = AddIncomeRequest.builder()
+                .amount(new BigDecimal("3200.00"))
+                .date(LocalDate.of(2025, 3, 1))
+                .description("Monthly salary")
+                .build();
+        this.updateRequest = UpdateIncomeRequest.builder()
+                .amount(new BigDecimal("3350.00"))
+                .build();
+        this.income = this.incomeMapper.toIncome(this.addRequest, this.user);
+        this.income.setId(100);
+    }
+
+    @Benchmark
+    public Income toIncome() {
+        return this.incomeMapper.toIncome(this.addRequest, this.user);
+    }
+
+    @Benchmark
+    public IncomeResponse toIncomeResponse() {
+        return this.incomeMapper.toIncomeResponse(this.income);
+    }
+
+    @Benchmark
+    public Income updateIncome() {
+        final Income target = Income.builder()
+                .amount(this.income.getAmount())
+                .date(this.income.getDate())
+                .description(this.income.getDescription())
+                .build();
+        this.incomeMapper.updateIncomeRequestToIncome(this.updateRequest, target);
+        return target;
+    }
+}
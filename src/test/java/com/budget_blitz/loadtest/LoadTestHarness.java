@@ -0,0 +1,343 @@
+package com.budget_blitz.loadtest;
+
+import com.budget_blitz.BudgetBlitzApiApplication;
+import com.budget_blitz.role.Role;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LoadTestHarness {
+
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int EXPENSES_PER_USER = Integer.getInteger("load.expenses-per-user", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+    private static final int BATCH_SIZE = 5000;
+    private static final String PASSWORD = "Load#Test1";
+    private static final String[] CATEGORIES = {"Groceries", "Rent", "Transport", "Utilities", "Leisure"};
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final List<SeededUser> users = new ArrayList<>();
+    private int totalWeight;
+
+    private LoadTestHarness(final String baseUrl) {
+        this.baseUrl = baseUrl;
+        register("GET /expenses", 30, user -> get("expenses?page=" + random(10) + "&size=20&sort=date,DESC", user));
+        register("GET /incomes", 15, user -> get("incomes?page=" + random(5) + "&size=20", user));
+        register("GET /overview", 25, user -> get("overview?year=" + LocalDate.now().getYear(), user));
+        register("GET /categories", 20, user -> get("categories", user));
+        register("POST /auth/login", 10, user -> post("auth/login", Map.of("email", user.email(), "password", PASSWORD), null));
+    }
+
+    public static void main(final String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        final ConfigurableApplicationContext context = SpringApplication.run(BudgetBlitzApiApplication.class,
+                "--spring.profiles.active=test",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN");
+
+        final Path outputDirectory = Path.of(args.length > 0 ? args[0] : "target/load-test");
+        try {
+            final String port = context.getEnvironment().getProperty("local.server.port");
+            final LoadTestHarness harness = new LoadTestHarness("http://127.0.0.1:" + port + "/api/v1/");
+            harness.seed(context);
+            harness.drive(WARMUP);
+            harness.endpoints.forEach(Endpoint::reset);
+            final long elapsedNanos = harness.drive(DURATION);
+            harness.report(outputDirectory, elapsedNanos);
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(final ConfigurableApplicationContext context) throws Exception {
+        final UserRepository userRepository = context.getBean(UserRepository.class);
+        final RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        final String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        final List<User> seeded = new ArrayList<>(USERS);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            final Role role = roleRepository.findByName("ROLE_USER").orElseThrow();
+            for (int i = 0; i < USERS; i++) {
+                seeded.add(User.builder()
+                        .firstName("Load")
+                        .lastName("Tester")
+                        .email("load" + i + "@budget.blitz.com")
+                        .password(encodedPassword)
+                        .dateOfBirth(LocalDate.of(1990, 1, 1))
+                        .enabled(true)
+                        .emailVerified(true)
+                        .roles(Set.of(role))
+                        .build());
+            }
+            userRepository.saveAll(seeded);
+        });
+
+        final long start = System.nanoTime();
+        for (final User user : seeded) {
+            final String token = send(post("auth/login", Map.of("email", user.getEmail(), "password", PASSWORD), null))
+                    .get("accessToken").asText();
+            final SeededUser seededUser = new SeededUser(user.getEmail(), token);
+
+            final List<Integer> categoryIds = new ArrayList<>();
+            for (final String category : CATEGORIES) {
+                categoryIds.add(send(post("categories", Map.of("name", category), seededUser)).get("id").asInt());
+            }
+            seedRecords(seededUser, "expenses/batch", "expenses", EXPENSES_PER_USER, categoryIds);
+            seedRecords(seededUser, "incomes/batch", "incomes", Math.max(1, EXPENSES_PER_USER / 4), null);
+            this.users.add(seededUser);
+        }
+        System.out.printf("Seeded %d users with %d expenses each in %.1fs%n",
+                USERS, EXPENSES_PER_USER, (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private void seedRecords(final SeededUser user, final String path, final String field, final int count,
+                             final List<Integer> categoryIds) throws Exception {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final LocalDate today = LocalDate.now();
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            final List<Map<String, Object>> records = new ArrayList<>();
+            for (int i = offset; i < Math.min(count, offset + BATCH_SIZE); i++) {
+                final Map<String, Object> record = new HashMap<>();
+                record.put("amount", random.nextInt(100, 100_000) / 100.0);
+                record.put("date", today.minusDays(random.nextInt(365)).toString());
+                record.put("description", "Load test record " + i);
+                if (categoryIds != null) {
+                    record.put("categoryId", categoryIds.get(i % categoryIds.size()));
+                }
+                records.add(record);
+            }
+            send(post(path, Map.of(field, records), user));
+        }
+    }
+
+    private long drive(final Duration duration) throws InterruptedException {
+        final ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        final long interval = TimeUnit.SECONDS.toNanos(1) * CONCURRENCY / RATE;
+        final long start = System.nanoTime();
+        final long deadline = start + duration.toNanos();
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            final long offset = interval * i / CONCURRENCY;
+            workers.execute(() -> {
+                for (long intended = start + offset; intended < deadline; intended += interval) {
+                    final long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        try {
+                            TimeUnit.NANOSECONDS.sleep(wait);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    final SeededUser user = this.users.get(random(this.users.size()));
+                    final Endpoint endpoint = pickEndpoint();
+                    final long begin = System.nanoTime();
+                    boolean failed;
+                    try {
+                        failed = this.httpClient.send(endpoint.request(user), HttpResponse.BodyHandlers.discarding())
+                                .statusCode() >= 400;
+                    } catch (IOException e) {
+                        failed = true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    final long end = System.nanoTime();
+                    endpoint.record(end - intended, end - begin, failed);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private void report(final Path outputDirectory, final long elapsedNanos) throws IOException {
+        Files.createDirectories(outputDirectory);
+        final double seconds = elapsedNanos / 1_000_000_000.0;
+
+        final List<Map<String, Object>> results = new ArrayList<>();
+        for (final Endpoint endpoint : this.endpoints) {
+            final Histogram histogram = endpoint.histogram();
+            final Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", endpoint.name());
+            result.put("requests", histogram.getTotalCount());
+            result.put("errors", endpoint.errors.get());
+            result.put("requestsPerSecond", histogram.getTotalCount() / seconds);
+            result.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+            result.put("p90Millis", millis(histogram.getValueAtPercentile(90)));
+            result.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+            result.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+            result.put("maxMillis", millis(histogram.getMaxValue()));
+            final Histogram serviceHistogram = endpoint.serviceHistogram();
+            result.put("serviceP50Millis", millis(serviceHistogram.getValueAtPercentile(50)));
+            result.put("serviceP99Millis", millis(serviceHistogram.getValueAtPercentile(99)));
+            result.put("serviceMaxMillis", millis(serviceHistogram.getMaxValue()));
+            results.add(result);
+
+            final String fileName = endpoint.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDirectory.resolve(fileName)))) {
+                histogram.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("users", USERS);
+        summary.put("expensesPerUser", EXPENSES_PER_USER);
+        summary.put("concurrency", CONCURRENCY);
+        summary.put("targetRequestsPerSecond", RATE);
+        summary.put("durationSeconds", seconds);
+        summary.put("endpoints", results);
+
+        final String json = this.objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary);
+        Files.writeString(outputDirectory.resolve("summary.json"), json);
+        System.out.println(json);
+    }
+
+    private void register(final String name, final int weight, final RequestFactory factory) {
+        this.endpoints.add(new Endpoint(name, weight, factory));
+        this.totalWeight += weight;
+    }
+
+    private Endpoint pickEndpoint() {
+        int roll = random(this.totalWeight);
+        for (final Endpoint endpoint : this.endpoints) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return this.endpoints.get(this.endpoints.size() - 1);
+    }
+
+    private HttpRequest get(final String path, final SeededUser user) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                .header("Authorization", "Bearer " + user.token())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(final String path, final Object body, final SeededUser user) {
+        try {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.ofString(this.objectMapper.writeValueAsString(body)));
+            if (user != null) {
+                builder.header("Authorization", "Bearer " + user.token());
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode send(final HttpRequest request) throws Exception {
+        final HttpResponse<String> response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return this.objectMapper.readTree(response.body());
+    }
+
+    private static int random(final int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private interface RequestFactory {
+        HttpRequest create(SeededUser user);
+    }
+
+    private record SeededUser(String email, String token) {
+    }
+
+    private static final class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final RequestFactory factory;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Recorder serviceRecorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private Endpoint(final String name, final int weight, final RequestFactory factory) {
+            this.name = name;
+            this.weight = weight;
+            this.factory = factory;
+        }
+
+        String name() {
+            return this.name;
+        }
+
+        int weight() {
+            return this.weight;
+        }
+
+        HttpRequest request(final SeededUser user) {
+            return this.factory.create(user);
+        }
+
+        void record(final long responseNanos, final long serviceNanos, final boolean failed) {
+            this.recorder.recordValue(Math.min(responseNanos, HIGHEST_TRACKABLE_NANOS));
+            this.serviceRecorder.recordValue(Math.min(serviceNanos, HIGHEST_TRACKABLE_NANOS));
+            if (failed) {
+                this.errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            this.recorder.reset();
+            this.serviceRecorder.reset();
+            this.errors.set(0);
+        }
+
+        Histogram histogram() {
+            return this.recorder.getIntervalHistogram();
+        }
+
+        Histogram serviceHistogram() {
+            return this.serviceRecorder.getIntervalHistogram();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.budget_blitz.overview;
+
+import com.budget_blitz.TestUsers;
+import com.budget_blitz.category.Category;
+import com.budget_blitz.category.CategoryRepository;
+import com.budget_blitz.expense.ExpenseRepository;
+import com.budget_blitz.expense.ExpenseService;
+import com.budget_blitz.expense.request.AddExpenseRequest;
+import com.budget_blitz.expense.request.BatchAddExpenseRequest;
+import com.budget_blitz.expense.request.UpdateExpenseRequest;
+import com.budget_blitz.income.IncomeRepository;
+import com.budget_blitz.income.IncomeService;
+import com.budget_blitz.income.request.AddIncomeRequest;
+import com.budget_blitz.income.request.BatchAddIncomeRequest;
+import com.budget_blitz.income.request.UpdateIncomeRequest;
+import com.budget_blitz.overview.impl.MonthlySummaryServiceImpl;
+import com.budget_blitz.overview.impl.OverviewServiceImpl;
+import com.budget_blitz.overview.request.OverviewFilterRequest;
+import com.budget_blitz.overview.response.OverviewResponse;
+import com.budget_blitz.role.RoleRepository;
+import com.budget_blitz.users.User;
+import com.budget_blitz.users.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MonthlySummaryRollupTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2024, 3, 10);
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 20);
+
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private IncomeService incomeService;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private IncomeRepository incomeRepository;
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+    @Autowired
+    private MonthlySummaryRebuildRepository monthlySummaryRebuildRepository;
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+    @Autowired
+    private OverviewMapper overviewMapper;
+    @Autowired
+    private OverviewQueryExecutor overviewQueryExecutor;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Category food;
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        this.user = TestUsers.create(this.userRepository, this.roleRepository, this.transactionManager, "ROLE_USER");
+        this.food = TestUsers.category(this.categoryRepository, this.user, "Food");
+        this.rent = TestUsers.category(this.categoryRepository, this.user, "Rent");
+        TestUsers.authenticate(this.user);
+        this.monthlySummaryService.rebuild(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestUsers.clear();
+    }
+
+    @Test
+    void rollupMatchesSingleQueryAfterAdd() {
+        addExpense("12.50", MARCH, this.food);
+        addExpense("800.00", APRIL, this.rent);
+        addIncome("2000.00", MARCH);
+
+        assertRollupMatchesSingleQuery();
+        assertThat(overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, null, null).getTotalExpenses())
+                .isEqualByComparingTo("812.50");
+    }
+
+    @Test
+    void rollupMatchesSingleQueryAfterUpdate() {
+        final Integer expenseId = addExpense("12.50", MARCH, this.food);
+        final Integer incomeId = addIncome("2000.00", MARCH);
+
+        this.expenseService.updateExpenseById(UpdateExpenseRequest.builder()
+                .amount(new BigDecimal("40.00"))
+                .date(APRIL)
+                .categoryId(this.rent.getId())
+                .build(), expenseId, this.user.getId());
+        this.incomeService.updateIncomeById(UpdateIncomeRequest.builder()
+                .amount(new BigDecimal("2100.00"))
+                .date(APRIL)
+                .build(), incomeId, this.user.getId());
+
+        assertRollupMatchesSingleQuery();
+        final OverviewResponse march = overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, 3, 2024);
+        assertThat(march.getTotalIncome()).isNull();
+        assertThat(march.getCategoryBreakdown()).isEmpty();
+    }
+
+    @Test
+    void rollupMatchesSingleQueryAfterDelete() {
+        final Integer expenseId = addExpense("12.50", MARCH, this.food);
+        addExpense("7.50", MARCH, this.food);
+        final Integer incomeId = addIncome("2000.00", MARCH);
+
+        this.expenseService.deleteExpenseById(expenseId, this.user.getId());
+        this.incomeService.deleteIncomeById(incomeId, this.user.getId());
+
+        assertRollupMatchesSingleQuery();
+        assertThat(overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, null, null).getTotalExpenses())
+                .isEqualByComparingTo("7.50");
+    }
+
+    @Test
+    void rollupMatchesSingleQueryAfterBatch() {
+        this.expenseService.addExpenses(new BatchAddExpenseRequest(List.of(
+                expense("10.00", MARCH, this.food),
+                expense("10.00", MARCH, this.food),
+                expense("5.25", MARCH.plusDays(1), this.food),
+                expense("900.00", APRIL, this.rent))), this.user.getId());
+        this.incomeService.addIncomes(new BatchAddIncomeRequest(List.of(
+                income("1000.00", MARCH),
+                income("1000.00", APRIL))), this.user.getId());
+
+        assertRollupMatchesSingleQuery();
+        assertThat(overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, null, null).getTotalExpenses())
+                .isEqualByComparingTo("915.25");
+    }
+
+    @Test
+    void rebuildMatchesIncrementalMaintenance() {
+        addExpense("12.50", MARCH, this.food);
+        addIncome("2000.00", APRIL);
+        final OverviewResponse incremental = overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, null, null);
+
+        assertThat(this.monthlySummaryService.rebuild(true)).isTrue();
+
+        assertSameTotals(overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, null, null), incremental);
+    }
+
+    @Test
+    void rollupFallsBackToSingleQueryUntilRebuilt() {
+        addExpense("12.50", MARCH, this.food);
+        final TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+        transaction.executeWithoutResult(status -> {
+            this.monthlySummaryRepository.deleteByUserId(this.user.getId());
+            this.monthlySummaryRebuildRepository.findById(MonthlySummaryRebuild.SINGLETON_ID).orElseThrow()
+                    .setCompletedAt(null);
+        });
+
+        final MonthlySummaryService notRebuilt = new MonthlySummaryServiceImpl(this.monthlySummaryRepository,
+                this.monthlySummaryRebuildRepository, new OverviewProperties(), this.transactionManager);
+        try {
+            assertThat(notRebuilt.isRebuilt()).isFalse();
+            assertThat(overview(OverviewStrategy.ROLLUP, notRebuilt, null, null).getTotalExpenses())
+                    .isEqualByComparingTo("12.50");
+        } finally {
+            this.monthlySummaryService.rebuild(true);
+        }
+    }
+
+    @Test
+    void claimIsExclusiveUntilReleasedOrStale() {
+        final TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+        final LocalDateTime now = LocalDateTime.now();
+        final Integer id = MonthlySummaryRebuild.SINGLETON_ID;
+        final LocalDateTime completedAt = this.monthlySummaryRebuildRepository.findById(id).orElseThrow().getCompletedAt();
+        assertThat(completedAt).isNotNull();
+
+        assertThat(claim(transaction, now, now.minusHours(2), false)).isZero();
+        assertThat(claim(transaction, now, now.minusHours(2), true)).isEqualTo(1);
+        assertThat(claim(transaction, now, now.minusHours(2), true)).isZero();
+        assertThat(claim(transaction, now.plusHours(3), now.plusMinutes(1), true)).isEqualTo(1);
+
+        transaction.executeWithoutResult(status -> this.monthlySummaryRebuildRepository.release(id, null));
+
+        final MonthlySummaryRebuild released = this.monthlySummaryRebuildRepository.findById(id).orElseThrow();
+        assertThat(released.isRunning()).isFalse();
+        assertThat(released.getCompletedAt()).isEqualTo(completedAt);
+    }
+
+    private int claim(final TransactionTemplate transaction, final LocalDateTime now, final LocalDateTime staleBefore,
+                      final boolean force) {
+        final Integer claimed = transaction.execute(status -> this.monthlySummaryRebuildRepository
+                .claim(MonthlySummaryRebuild.SINGLETON_ID, now, staleBefore, force));
+        return claimed != null ? claimed : 0;
+    }
+
+    private void assertRollupMatchesSingleQuery() {
+        for (final Integer month : new Integer[]{null, 3, 4}) {
+            final Integer year = month != null ? 2024 : null;
+            assertSameTotals(
+                    overview(OverviewStrategy.ROLLUP, this.monthlySummaryService, month, year),
+                    overview(OverviewStrategy.SINGLE_QUERY, this.monthlySummaryService, month, year));
+        }
+    }
+
+    private static void assertSameTotals(final OverviewResponse actual, final OverviewResponse expected) {
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(expected);
+    }
+
+    private OverviewResponse overview(final OverviewStrategy strategy, final MonthlySummaryService summaryService,
+                                      final Integer month, final Integer year) {
+        final OverviewProperties properties = new OverviewProperties();
+        properties.setStrategy(strategy);
+        properties.setRebuildCheckInterval(Duration.ZERO);
+        final OverviewService overviewService = new OverviewServiceImpl(this.incomeRepository, this.expenseRepository,
+                this.monthlySummaryRepository, summaryService, this.overviewMapper, properties, this.overviewQueryExecutor);
+        return overviewService.getOverview(new OverviewFilterRequest(month, year), this.user.getId());
+    }
+
+    private Integer addExpense(final String amount, final LocalDate date, final Category category) {
+        return this.expenseService.addExpense(expense(amount, date, category), this.user.getId()).getId();
+    }
+
+    private Integer addIncome(final String amount, final LocalDate date) {
+        return this.incomeService.addIncome(income(amount, date), this.user.getId()).getId();
+    }
+
+    private static AddExpenseRequest expense(final String amount, final LocalDate date, final Category category) {
+        return AddExpenseRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .description("Rollup test")
+                .categoryId(category.getId())
+                .build();
+    }
+
+    private static AddIncomeRequest income(final String amount, final LocalDate date) {
+        return AddIncomeRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .description("Rollup test")
+                .build();
+    }
+}
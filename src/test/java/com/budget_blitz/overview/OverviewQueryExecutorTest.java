@@ -0,0 +1,186 @@
+package com.budget_blitz.overview;
+
+import com.budget_blitz.exception.BusinessException;
+import com.budget_blitz.exception.ErrorCode;
+import com.budget_blitz.expense.ExpenseRepository;
+import com.budget_blitz.income.IncomeRepository;
+import com.budget_blitz.overview.impl.OverviewServiceImpl;
+import com.budget_blitz.overview.request.OverviewFilterRequest;
+import com.budget_blitz.overview.response.CategorySummaryResponse;
+import com.budget_blitz.overview.response.OverviewResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OverviewQueryExecutorTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+    private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private OverviewProperties properties;
+    private OverviewQueryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        when(this.transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        this.properties = new OverviewProperties();
+        this.properties.setStrategy(OverviewStrategy.PARALLEL);
+        this.properties.getParallel().setTimeout(TIMEOUT);
+        this.properties.getParallel().setMaxConcurrency(1);
+        this.properties.getParallel().setQueueCapacity(1);
+
+        this.executor = new OverviewQueryExecutor(mock(DataSource.class), this.transactionManager, this.properties);
+        this.executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        this.executor.shutdown();
+    }
+
+    @Test
+    void runsSubQueryInReadOnlyTransactionBoundedByTheTimeout() {
+        final CompletableFuture<String> future = this.executor.submit(() -> "done");
+
+        assertThat(this.executor.awaitAll(TIMEOUT, future)).isTrue();
+        assertThat(OverviewQueryExecutor.resultOrNull(future)).isEqualTo("done");
+
+        final ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(this.transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getTimeout()).isEqualTo(1);
+    }
+
+    @Test
+    void slowSubQueryReturnsPartialOverview() {
+        this.executor.shutdown();
+        this.properties.getParallel().setMaxConcurrency(3);
+        this.executor.init();
+        when(this.incomeRepository.getTotalIncome(eq(1), any(), any())).thenAnswer(invocation -> {
+            this.release.await();
+            return new BigDecimal("100.00");
+        });
+        when(this.expenseRepository.getTotalExpenses(eq(1), any(), any())).thenReturn(new BigDecimal("40.00"));
+        when(this.expenseRepository.getTotalExpensesByCategory(eq(1), any(), any()))
+                .thenReturn(List.of(new CategorySummaryResponse("Food", new BigDecimal("40.00"))));
+
+        final OverviewResponse response = overview();
+
+        assertThat(response.isPartial()).isTrue();
+        assertThat(response.getTotalIncome()).isNull();
+        assertThat(response.getTotalExpenses()).isEqualByComparingTo("40.00");
+        assertThat(response.getCategoryBreakdown()).hasSize(1);
+    }
+
+    @Test
+    void saturatedExecutorReturnsPartialOverview() {
+        saturate();
+
+        final OverviewResponse response = overview();
+
+        assertThat(response.isPartial()).isTrue();
+        assertThat(response.getTotalIncome()).isNull();
+        assertThat(response.getTotalExpenses()).isNull();
+        assertThat(response.getCategoryBreakdown()).isEmpty();
+        verifyNoInteractions(this.incomeRepository, this.expenseRepository);
+    }
+
+    @Test
+    void saturatedExecutorFailsWhenPartialResultsAreNotAllowed() {
+        this.properties.getParallel().setAllowPartial(false);
+        saturate();
+
+        assertThatThrownBy(this::overview)
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.OVERVIEW_UNAVAILABLE));
+    }
+
+    @Test
+    void rejectsSubQueryWhenThreadAndQueueAreFull() {
+        saturate();
+
+        final CompletableFuture<String> rejected = this.executor.submit(() -> "never");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void skipsSubQueryThatExpiredInTheQueue() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CompletableFuture<String> blocker = this.executor.submit(() -> {
+            started.countDown();
+            sleep(TIMEOUT.multipliedBy(2));
+            return "slow";
+        });
+        started.await();
+        final AtomicBoolean ran = new AtomicBoolean();
+        final CompletableFuture<String> queued = this.executor.submit(() -> {
+            ran.set(true);
+            return "late";
+        });
+
+        assertThat(blocker.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CancellationException.class);
+        assertThat(ran).isFalse();
+    }
+
+    private void saturate() {
+        final CountDownLatch started = new CountDownLatch(1);
+        this.executor.submit(() -> {
+            started.countDown();
+            await(this.release);
+            return null;
+        });
+        this.executor.submit(() -> null);
+        await(started);
+    }
+
+    private OverviewResponse overview() {
+        final OverviewService overviewService = new OverviewServiceImpl(this.incomeRepository, this.expenseRepository,
+                mock(MonthlySummaryRepository.class), mock(MonthlySummaryService.class), new OverviewMapperImpl(),
+                this.properties, this.executor);
+        return overviewService.getOverview(new OverviewFilterRequest(3, 2024), 1);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.budget_blitz.security;
+
+import com.budget_blitz.exception.BusinessException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private KeyPair currentKeys;
+    private KeyPair previousKeys;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.currentKeys = generateRsaKeyPair();
+        this.previousKeys = generateRsaKeyPair();
+        this.jwtService = newJwtService(this.currentKeys, this.previousKeys);
+    }
+
+    @Test
+    void verifiesTokensIssuedByCurrentKey() {
+        final String token = this.jwtService.generateAccessToken("user@budget.blitz.com");
+
+        assertThat(this.jwtService.extractUsername(token)).isEqualTo("user@budget.blitz.com");
+    }
+
+    @Test
+    void verifiesTokensIssuedByPreviousKeyDuringRollover() throws Exception {
+        final String token = newJwtService(this.previousKeys, null).generateAccessToken("user@budget.blitz.com");
+
+        assertThat(this.jwtService.extractUsername(token)).isEqualTo("user@budget.blitz.com");
+    }
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    void signsAndVerifiesWithEachAlgorithm(final JwtAlgorithm algorithm) throws Exception {
+        final JwtService service = newJwtService(algorithm, generateKeyPair(algorithm), null, null);
+
+        final String token = service.generateAccessToken("user@budget.blitz.com");
+
+        assertThat(header(token)).contains("\"alg\":\"" + algorithm.getSignatureAlgorithm().getId() + "\"");
+        assertThat(service.extractUsername(token)).isEqualTo("user@budget.blitz.com");
+    }
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    void rejectsTokensSignedByAnotherKeyOfTheSameAlgorithm(final JwtAlgorithm algorithm) throws Exception {
+        final JwtService service = newJwtService(algorithm, generateKeyPair(algorithm), null, null);
+        final String token = newJwtService(algorithm, generateKeyPair(algorithm), null, null)
+                .generateAccessToken("user@budget.blitz.com");
+
+        assertThatThrownBy(() -> service.extractUsername(token)).isInstanceOf(BusinessException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"RS256, ES256", "ES256, EDDSA", "EDDSA, RS256"})
+    void verifiesTokensIssuedByPreviousKeyOfAnotherAlgorithmDuringRollover(final JwtAlgorithm previous,
+                                                                            final JwtAlgorithm current) throws Exception {
+        final KeyPair previousKeys = generateKeyPair(previous);
+        final JwtService oldService = newJwtService(previous, previousKeys, null, null);
+        final JwtService newService = newJwtService(current, generateKeyPair(current), previous, previousKeys);
+
+        final String oldToken = oldService.generateAccessToken("old@budget.blitz.com");
+        final String newToken = newService.generateAccessToken("new@budget.blitz.com");
+
+        assertThat(newService.extractUsername(oldToken)).isEqualTo("old@budget.blitz.com");
+        assertThat(newService.extractUsername(newToken)).isEqualTo("new@budget.blitz.com");
+        assertThatThrownBy(() -> oldService.extractUsername(newToken)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void verifiesLegacyTokensWithoutKeyIdSignedByPreviousKeyOfSameAlgorithm() {
+        final String token = legacyToken(this.previousKeys);
+
+        assertThat(this.jwtService.extractUsername(token)).isEqualTo("legacy@budget.blitz.com");
+    }
+
+    @Test
+    void rejectsLegacyTokensSignedByUnknownKey() throws Exception {
+        final String token = legacyToken(generateRsaKeyPair());
+
+        assertThatThrownBy(() -> this.jwtService.extractUsername(token)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsTokensWithUnknownKeyId() throws Exception {
+        final String token = Jwts.builder()
+                .header().keyId("unknown-key-id").and()
+                .subject("user@budget.blitz.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(this.currentKeys.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        assertThatThrownBy(() -> this.jwtService.extractUsername(token)).isInstanceOf(BusinessException.class);
+    }
+
+    private static String legacyToken(final KeyPair keys) {
+        return Jwts.builder()
+                .claims(Map.of("TOKEN_TYPE", "ACCESS_TOKEN"))
+                .subject("legacy@budget.blitz.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keys.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static String header(final String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+
+    private static JwtService newJwtService(final KeyPair current, final KeyPair previous) {
+        return newJwtService(JwtAlgorithm.RS256, current, JwtAlgorithm.RS256, previous);
+    }
+
+    private static JwtService newJwtService(final JwtAlgorithm algorithm, final KeyPair current,
+                                            final JwtAlgorithm previousAlgorithm, final KeyPair previous) {
+        final JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setPrivateKey(Base64.getEncoder().encodeToString(current.getPrivate().getEncoded()));
+        properties.setPublicKey(Base64.getEncoder().encodeToString(current.getPublic().getEncoded()));
+        if (previous != null) {
+            properties.setPreviousAlgorithm(previousAlgorithm);
+            properties.setPreviousPublicKey(Base64.getEncoder().encodeToString(previous.getPublic().getEncoded()));
+        }
+        properties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(15));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+        final JwtService jwtService = new JwtService(properties, new VerifiedTokenCache(properties));
+        jwtService.init();
+        return jwtService;
+    }
+
+    private static KeyPair generateRsaKeyPair() throws Exception {
+        return generateKeyPair(JwtAlgorithm.RS256);
+    }
+
+    private static KeyPair generateKeyPair(final JwtAlgorithm algorithm) throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        switch (algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EDDSA -> {
+            }
+        }
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,61 @@
+package com.budget_blitz.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    private JwtAlgorithm algorithm;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        final KeyPair keyPair = generateKeyPair(this.algorithm);
+
+        final JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(this.algorithm);
+        properties.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        properties.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        properties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(15));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+        this.jwtService = new JwtService(properties, new VerifiedTokenCache(properties));
+        this.jwtService.init();
+        this.token = this.jwtService.generateAccessToken("benchmark@budget.blitz.com");
+    }
+
+    @Benchmark
+    public String sign() {
+        return this.jwtService.generateAccessToken("benchmark@budget.blitz.com");
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return this.jwtService.verify(this.token);
+    }
+
+    private static KeyPair generateKeyPair(final JwtAlgorithm algorithm) throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        switch (algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EDDSA -> {
+            }
+        }
+        return generator.generateKeyPair();
+    }
+}
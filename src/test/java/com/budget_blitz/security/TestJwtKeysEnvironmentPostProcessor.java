@@ -0,0 +1,41 @@
+package com.budget_blitz.security;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.StringUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+
+public class TestJwtKeysEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String PRIVATE_KEY = "app.security.jwt.private-key";
+    private static final String PUBLIC_KEY = "app.security.jwt.public-key";
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment, final SpringApplication application) {
+        if (!environment.matchesProfiles("test") || StringUtils.hasText(environment.getProperty(PRIVATE_KEY))) {
+            return;
+        }
+
+        final KeyPair keyPair;
+        try {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not generate test JWT keys", e);
+        }
+
+        final Base64.Encoder encoder = Base64.getEncoder();
+        environment.getPropertySources().addFirst(new MapPropertySource("testJwtKeys", Map.of(
+                PRIVATE_KEY, encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+                PUBLIC_KEY, encoder.encodeToString(keyPair.getPublic().getEncoded())
+        )));
+    }
+}
@@ -0,0 +1,120 @@
+package com.budget_blitz.statement.parser;
+
+import com.budget_blitz.common.CsvUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class CsvStatementParserTest {
+
+    private final CsvStatementParser parser = new CsvStatementParser();
+
+    @Test
+    void parsesRowsByHeaderNameInAnyOrder() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                \uFEFFAmount,Category,Date,Description
+                -12.50,Food,2024-03-01,"Lunch, with team"
+                2000,,2024-03-02,Salary
+                """);
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).hasSize(2);
+
+        final StatementRow expense = handler.rows.get(0);
+        assertThat(expense.getLineNumber()).isEqualTo(2);
+        assertThat(expense.getDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(expense.getAmount()).isEqualByComparingTo(new BigDecimal("-12.50"));
+        assertThat(expense.getDescription()).isEqualTo("Lunch, with team");
+        assertThat(expense.getCategory()).isEqualTo("Food");
+
+        final StatementRow income = handler.rows.get(1);
+        assertThat(income.getLineNumber()).isEqualTo(3);
+        assertThat(income.getCategory()).isNull();
+    }
+
+    @Test
+    void reportsInvalidRowsAndKeepsGoing() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                date,amount,description
+                2024-13-01,-5,Bad date
+
+                2024-03-02,abc,Bad amount
+                ,-5,Missing date
+                2024-03-03,-7,Valid
+                """);
+
+        assertThat(handler.rows).extracting(StatementRow::getLineNumber).containsExactly(6L);
+        assertThat(handler.errors).containsExactly(
+                entry(2L, "Invalid date or amount"),
+                entry(4L, "Invalid date or amount"),
+                entry(5L, "Missing date or amount"));
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        final String description = "Dinner\nwith \"friends\", tip\r\nincluded";
+        final RecordingRowHandler handler = parse("date,amount,description\n"
+                + "2024-03-01,-40," + CsvUtils.escape(description) + "\n"
+                + "2024-03-02,-7,Coffee\n");
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).extracting(StatementRow::getLineNumber).containsExactly(2L, 5L);
+        assertThat(handler.rows.get(0).getDescription()).isEqualTo("Dinner\nwith \"friends\", tip\nincluded");
+        assertThat(handler.rows.get(1).getDescription()).isEqualTo("Coffee");
+    }
+
+    @Test
+    void readsBackFormulaGuardedFields() throws IOException {
+        final RecordingRowHandler handler = parse("date,amount,description,category\n"
+                + "2024-03-01,-40," + CsvUtils.escape("=HYPERLINK(\"http://x\")") + "," + CsvUtils.escape("@Home") + "\n");
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows.get(0).getDescription()).isEqualTo("=HYPERLINK(\"http://x\")");
+        assertThat(handler.rows.get(0).getCategory()).isEqualTo("@Home");
+    }
+
+    @Test
+    void stopsAtUnclosedQuote() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                date,amount,description
+                2024-03-01,-5,Valid
+                2024-03-02,-7,"Never closed
+                2024-03-03,-9,Swallowed
+                """);
+
+        assertThat(handler.rows).extracting(StatementRow::getLineNumber).containsExactly(2L);
+        assertThat(handler.errors).containsExactly(entry(3L, "Quoted field is not closed"));
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                when,amount
+                2024-03-01,-5
+                """);
+
+        assertThat(handler.rows).isEmpty();
+        assertThat(handler.errors).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void ignoresEmptyInput() throws IOException {
+        final RecordingRowHandler handler = parse("");
+
+        assertThat(handler.rows).isEmpty();
+        assertThat(handler.errors).isEmpty();
+    }
+
+    private RecordingRowHandler parse(final String content) throws IOException {
+        final RecordingRowHandler handler = new RecordingRowHandler();
+        this.parser.parse(new BufferedReader(new StringReader(content)), handler);
+        return handler;
+    }
+}
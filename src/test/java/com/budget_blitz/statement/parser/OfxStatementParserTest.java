@@ -0,0 +1,110 @@
+package com.budget_blitz.statement.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class OfxStatementParserTest {
+
+    private final OfxStatementParser parser = new OfxStatementParser();
+
+    @Test
+    void parsesMultiLineSgml() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240301120000[-5:EST]
+                <TRNAMT>-42.10
+                <NAME>Grocery Store
+                <MEMO>Card 1234
+                </STMTTRN>
+                <STMTTRN>
+                <DTPOSTED>20240302
+                <TRNAMT>1500.00
+                <MEMO>Payroll
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).hasSize(2);
+
+        final StatementRow expense = handler.rows.get(0);
+        assertThat(expense.getLineNumber()).isEqualTo(6);
+        assertThat(expense.getDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(expense.getAmount()).isEqualByComparingTo(new BigDecimal("-42.10"));
+        assertThat(expense.getDescription()).isEqualTo("Grocery Store");
+
+        final StatementRow income = handler.rows.get(1);
+        assertThat(income.getLineNumber()).isEqualTo(13);
+        assertThat(income.getDescription()).isEqualTo("Payroll");
+    }
+
+    @Test
+    void parsesSingleLineSgml() throws IOException {
+        final RecordingRowHandler handler = parse("OFXHEADER:100\n<OFX><BANKTRANLIST>"
+                + "<STMTTRN><DTPOSTED>20240301<TRNAMT>-9.99<NAME>Coffee"
+                + "<STMTTRN><DTPOSTED>20240305<TRNAMT>-20<NAME>Books</STMTTRN>"
+                + "</BANKTRANLIST></OFX>");
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).extracting(StatementRow::getDescription).containsExactly("Books");
+    }
+
+    @Test
+    void parsesSingleLineXml() throws IOException {
+        final RecordingRowHandler handler = parse("<?xml version=\"1.0\"?><?OFX OFXHEADER=\"200\"?><OFX><BANKTRANLIST>"
+                + "<STMTTRN><DTPOSTED>20240301</DTPOSTED><TRNAMT>-9.99</TRNAMT><NAME>Coffee</NAME></STMTTRN>"
+                + "<STMTTRN><DTPOSTED>20240305</DTPOSTED><TRNAMT>250.00</TRNAMT><MEMO>Refund</MEMO></STMTTRN>"
+                + "</BANKTRANLIST></OFX>");
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).extracting(StatementRow::getDescription).containsExactly("Coffee", "Refund");
+        assertThat(handler.rows).extracting(StatementRow::getLineNumber).containsExactly(1L, 1L);
+        assertThat(handler.rows.get(1).getAmount()).isEqualByComparingTo(new BigDecimal("250.00"));
+    }
+
+    @Test
+    void reportsTransactionsWithoutDateOrAmount() throws IOException {
+        final RecordingRowHandler handler = parse("""
+                <OFX>
+                <STMTTRN>
+                <TRNAMT>-5
+                </STMTTRN>
+                <STMTTRN>
+                <DTPOSTED>2024
+                <TRNAMT>-5
+                </STMTTRN>
+                <STMTTRN>
+                <DTPOSTED>20240301
+                <TRNAMT>five
+                </STMTTRN>
+                </OFX>
+                """);
+
+        assertThat(handler.rows).isEmpty();
+        assertThat(handler.errors).containsExactly(
+                entry(2L, "Transaction is missing DTPOSTED or TRNAMT"),
+                entry(5L, "Transaction is missing DTPOSTED or TRNAMT"),
+                entry(9L, "Transaction has an invalid DTPOSTED or TRNAMT"));
+    }
+
+    private RecordingRowHandler parse(final String content) throws IOException {
+        final RecordingRowHandler handler = new RecordingRowHandler();
+        this.parser.parse(new BufferedReader(new StringReader(content)), handler);
+        return handler;
+    }
+}
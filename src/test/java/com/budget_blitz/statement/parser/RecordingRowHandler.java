@@ -0,0 +1,22 @@
+package com.budget_blitz.statement.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class RecordingRowHandler implements StatementRowHandler {
+
+    final List<StatementRow> rows = new ArrayList<>();
+    final Map<Long, String> errors = new LinkedHashMap<>();
+
+    @Override
+    public void onRow(final StatementRow row) {
+        this.rows.add(row);
+    }
+
+    @Override
+    public void onError(final long lineNumber, final String message) {
+        this.errors.put(lineNumber, message);
+    }
+}
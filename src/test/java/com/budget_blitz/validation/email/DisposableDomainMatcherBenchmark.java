@@ -0,0 +1,83 @@
+package com.budget_blitz.validation.email;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisposableDomainMatcherBenchmark {
+
+    private static final String[] TOP_LEVEL = {"com", "net", "org", "io", "xyz", "co.uk"};
+
+    @Param({"100000"})
+    private int domains;
+
+    private DisposableDomainMatcher matcher;
+    private Set<String> hashSet;
+    private DisposableEmailValidator validator;
+    private String hit;
+    private String subdomainHit;
+    private String miss;
+
+    @Setup
+    public void setup() {
+        final List<String> entries = new ArrayList<>(this.domains);
+        for (int i = 0; i < this.domains; i++) {
+            entries.add("temp" + Integer.toString(i, 36) + "mail." + TOP_LEVEL[i % TOP_LEVEL.length]);
+        }
+        this.matcher = DisposableDomainMatcher.of(entries);
+        this.hashSet = new HashSet<>(entries);
+
+        final DisposableDomainRegistry registry = new DisposableDomainRegistry(entries, "");
+        registry.init();
+        this.validator = new DisposableEmailValidator(registry);
+
+        this.hit = entries.get(this.domains / 2);
+        this.subdomainHit = "inbox.eu." + entries.get(this.domains / 3);
+        this.miss = "mail.budget.blitz.com";
+    }
+
+    @Benchmark
+    public boolean matcherHit() {
+        return this.matcher.matches(this.hit);
+    }
+
+    @Benchmark
+    public boolean matcherSubdomainHit() {
+        return this.matcher.matches(this.subdomainHit);
+    }
+
+    @Benchmark
+    public boolean matcherMiss() {
+        return this.matcher.matches(this.miss);
+    }
+
+    @Benchmark
+    public boolean validatorSubdomainHit() {
+        return this.validator.isValid("someone@" + this.subdomainHit, null);
+    }
+
+    @Benchmark
+    public boolean hashSetSuffixMiss() {
+        String domain = this.miss;
+        while (true) {
+            if (this.hashSet.contains(domain)) {
+                return true;
+            }
+            final int dot = domain.indexOf('.');
+            if (dot < 0) {
+                return false;
+            }
+            domain = domain.substring(dot + 1);
+        }
+    }
+}
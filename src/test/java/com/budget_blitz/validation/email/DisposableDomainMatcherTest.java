@@ -0,0 +1,71 @@
+package com.budget_blitz.validation.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisposableDomainMatcherTest {
+
+    private final DisposableDomainMatcher matcher = DisposableDomainMatcher.of(List.of(
+            "mailinator.com",
+            "*.tempmail.net",
+            "throwaway",
+            " Trash-Mail.ORG. ",
+            "# comment",
+            "",
+            "bad..domain.com"
+    ));
+
+    @Test
+    void matchesExactDomains() {
+        assertThat(this.matcher.matches("mailinator.com")).isTrue();
+        assertThat(this.matcher.matches("tempmail.net")).isTrue();
+        assertThat(this.matcher.matches("trash-mail.org")).isTrue();
+        assertThat(this.matcher.matches("MailInator.COM")).isTrue();
+        assertThat(this.matcher.matches("mailinator.com.")).isTrue();
+    }
+
+    @Test
+    void matchesSubdomains() {
+        assertThat(this.matcher.matches("eu.mailinator.com")).isTrue();
+        assertThat(this.matcher.matches("a.b.tempmail.net")).isTrue();
+    }
+
+    @Test
+    void matchesDotlessLegacyEntriesUnderAnyTopLevelDomain() {
+        assertThat(this.matcher.matches("throwaway.com")).isTrue();
+        assertThat(this.matcher.matches("throwaway.io")).isTrue();
+        assertThat(this.matcher.matches("inbox.throwaway.de")).isTrue();
+        assertThat(this.matcher.matches("throwaway")).isFalse();
+        assertThat(this.matcher.matches("throwaway.co.uk")).isFalse();
+    }
+
+    @Test
+    void missesUnrelatedAndLookalikeDomains() {
+        assertThat(this.matcher.matches("gmail.com")).isFalse();
+        assertThat(this.matcher.matches("notmailinator.com")).isFalse();
+        assertThat(this.matcher.matches("mailinator.co")).isFalse();
+        assertThat(this.matcher.matches("mailinator.com.evil.org")).isFalse();
+        assertThat(this.matcher.matches("com")).isFalse();
+        assertThat(this.matcher.matches("")).isFalse();
+        assertThat(this.matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    void skipsBlankCommentAndMalformedEntries() {
+        assertThat(this.matcher.size()).isEqualTo(4);
+        assertThat(this.matcher.matches("bad..domain.com")).isFalse();
+        assertThat(DisposableDomainMatcher.empty().matches("mailinator.com")).isFalse();
+    }
+
+    @Test
+    void countsDuplicateEntriesOnce() {
+        final DisposableDomainMatcher duplicates = DisposableDomainMatcher.of(
+                Arrays.asList("mailinator.com", "MAILINATOR.com", "*.mailinator.com", null));
+
+        assertThat(duplicates.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.budget_blitz.validation.email;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisposableDomainRegistryTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void combinesInlineAndFileDomains() throws IOException {
+        final DisposableDomainRegistry registry = registry(List.of("mailinator.com"), "tempmail.net\n");
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.isDisposable("user@mailinator.com")).isTrue();
+        assertThat(registry.isDisposable("user@Sub.TempMail.net ")).isTrue();
+        assertThat(registry.isDisposable("user@gmail.com")).isFalse();
+        assertThat(registry.isDisposable("user@")).isFalse();
+        assertThat(registry.isDisposable("not-an-email")).isFalse();
+        assertThat(registry.isDisposable(null)).isFalse();
+    }
+
+    @Test
+    void swapsInNewDomainsWhenTheFileChanges() throws IOException {
+        final DisposableDomainRegistry registry = registry(List.of(), "tempmail.net\n");
+        final Path file = this.directory.resolve("domains.txt");
+
+        Files.writeString(file, "throwaway\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        registry.reloadIfChanged();
+
+        assertThat(registry.isDisposable("user@tempmail.net")).isFalse();
+        assertThat(registry.isDisposable("user@throwaway.io")).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsCurrentDomainsWhenTheFileIsUnchanged() throws IOException {
+        final DisposableDomainRegistry registry = registry(List.of(), "tempmail.net\n");
+        final Path file = this.directory.resolve("domains.txt");
+        final FileTime loaded = Files.getLastModifiedTime(file);
+
+        Files.writeString(file, "throwaway\n");
+        Files.setLastModifiedTime(file, loaded);
+        registry.reloadIfChanged();
+
+        assertThat(registry.isDisposable("user@tempmail.net")).isTrue();
+    }
+
+    @Test
+    void keepsCurrentDomainsWhenTheFileDisappears() throws IOException {
+        final DisposableDomainRegistry registry = registry(List.of("mailinator.com"), "tempmail.net\n");
+
+        Files.delete(this.directory.resolve("domains.txt"));
+        registry.reloadIfChanged();
+
+        assertThat(registry.isDisposable("user@tempmail.net")).isTrue();
+        assertThat(registry.isDisposable("user@mailinator.com")).isTrue();
+    }
+
+    private DisposableDomainRegistry registry(final List<String> inline, final String fileContent) throws IOException {
+        final Path file = this.directory.resolve("domains.txt");
+        Files.writeString(file, fileContent);
+        final DisposableDomainRegistry registry = new DisposableDomainRegistry(inline, file.toString());
+        registry.init();
+        return registry;
+    }
+}